@@ -0,0 +1,58 @@
+package com.example.calendar.benchmark;
+
+import com.example.calendar.CalendarApplication;
+import com.example.calendar.config.JwtConfig;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.Properties;
+
+public final class BenchmarkFixtures {
+
+    public static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JwtConfig jwtConfig() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtConfig, "expiration", 86400L);
+        ReflectionTestUtils.setField(jwtConfig, "header", "Authorization");
+        ReflectionTestUtils.setField(jwtConfig, "prefix", "Bearer");
+        ReflectionTestUtils.setField(jwtConfig, "cacheMaxSize", 10000L);
+        return jwtConfig;
+    }
+
+    public static UserDetails userDetails(String email) {
+        return new User(email, "password", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    /**
+     * 운영 설정(application.yml)의 BCrypt 강도. 값이 없으면 PasswordHashingConfig의 기본값을 쓴다.
+     */
+    public static int configuredBcryptStrength() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        Properties properties = yaml.getObject();
+        return Integer.parseInt(properties != null
+                ? properties.getProperty("password.bcrypt.strength", "10")
+                : "10");
+    }
+
+    /**
+     * H2 위에 애플리케이션 전체를 띄운다 (benchmark 프로필).
+     */
+    public static ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(CalendarApplication.class)
+                .profiles("benchmark")
+                .run();
+    }
+}
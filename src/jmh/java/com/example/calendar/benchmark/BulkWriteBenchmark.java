@@ -0,0 +1,86 @@
+package com.example.calendar.benchmark;
+
+import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.BulkItemResult;
+import com.example.calendar.dto.TodoRequest;
+import com.example.calendar.service.TodoService;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오프라인에서 만든 할 일 500건을 동기화할 때 단건 생성 반복과 일괄 생성을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkWriteBenchmark {
+
+    private static final int BATCH = 500;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoRepository todoRepository;
+    private UserPrincipal principal;
+    private List<TodoRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication();
+        todoService = context.getBean(TodoService.class);
+        todoRepository = context.getBean(TodoRepository.class);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .email("bulk@example.com")
+                .password("password")
+                .build());
+        principal = new UserPrincipal(user.getId(), user.getEmail(), null, List.of("ROLE_USER"));
+
+        requests = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            TodoRequest request = new TodoRequest();
+            request.setTitle("Offline todo " + i);
+            request.setDescription("Created while offline");
+            request.setDueDate(LocalDate.of(2024, 1, 1).plusDays(i % 60));
+            requests.add(request);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTodos() {
+        todoRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singleItemRequests(Blackhole blackhole) {
+        for (TodoRequest request : requests) {
+            blackhole.consume(todoService.createTodo(principal, request));
+        }
+    }
+
+    @Benchmark
+    public List<BulkItemResult> bulkRequest() {
+        return todoService.createTodos(principal, requests);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.calendar.benchmark;
+
+import com.example.calendar.config.JwtConfig;
+import com.example.calendar.util.JwtUtil;
+import com.example.calendar.util.TokenClaims;
+import com.example.calendar.util.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 토큰을 세 번 파싱하던 기존 경로, 한 번 파싱하는 경로, 검증 캐시 경로를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = BenchmarkFixtures.jwtConfig();
+        jwtUtil = new JwtUtil(jwtConfig);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, jwtConfig);
+        userDetails = BenchmarkFixtures.userDetails("bench@example.com");
+        token = jwtUtil.generateToken(userDetails);
+        verifiedTokenCache.resolve(token);
+    }
+
+    @Benchmark
+    public boolean tripleParse() {
+        String username = jwtUtil.extractUsername(token);
+        Date expiration = jwtUtil.extractExpiration(token);
+        return jwtUtil.extractUsername(token).equals(username) && expiration.after(new Date());
+    }
+
+    @Benchmark
+    public boolean coldVerification() {
+        TokenClaims claims = jwtUtil.parseToken(token);
+        return jwtUtil.validateToken(claims, userDetails);
+    }
+
+    @Benchmark
+    public boolean cachedVerification() {
+        TokenClaims claims = verifiedTokenCache.resolve(token);
+        return jwtUtil.validateToken(claims, userDetails);
+    }
+}
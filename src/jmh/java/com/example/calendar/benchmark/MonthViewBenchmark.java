@@ -0,0 +1,117 @@
+package com.example.calendar.benchmark;
+
+import com.example.calendar.domain.Todo;
+import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.service.TodoService;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 1,000건짜리 월별 조회를 엔티티 로딩 후 변환하는 기존 경로, DTO 프로젝션 경로, 월 캐시 경로로 비교한다.
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonthViewBenchmark {
+
+    private static final int TODO_COUNT = 1000;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoRepository todoRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private User user;
+    private UserPrincipal principal;
+    private YearMonth month;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication();
+        todoService = context.getBean(TodoService.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        user = context.getBean(UserRepository.class).save(User.builder()
+                .email("bench@example.com")
+                .password("password")
+                .build());
+        principal = new UserPrincipal(user.getId(), user.getEmail(), null, List.of("ROLE_USER"));
+        month = YearMonth.of(2024, 1);
+
+        List<Todo> todos = new ArrayList<>(TODO_COUNT);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(Todo.builder()
+                    .user(user)
+                    .title("Todo " + i)
+                    .description("Benchmark description " + i)
+                    .dueDate(month.atDay(i % month.lengthOfMonth() + 1))
+                    .completed(i % 3 == 0)
+                    .build());
+        }
+        todoRepository.saveAll(todos);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> entityHydration() {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+        return readOnlyTransaction.execute(status -> {
+            try (Stream<Todo> todos = todoRepository.streamActiveByUserIdAndDueDateBetween(user.getId(), start, end)) {
+                return todos
+                        .map(todo -> TodoResponse.builder()
+                                .id(todo.getId())
+                                .uuid(todo.getUuid())
+                                .title(todo.getTitle())
+                                .description(todo.getDescription())
+                                .dueDate(todo.getDueDate())
+                                .completed(todo.isCompleted())
+                                .createdAt(todo.getCreatedAt())
+                                .updatedAt(todo.getUpdatedAt())
+                                .build())
+                        .collect(Collectors.toList());
+            }
+        });
+    }
+
+    @Benchmark
+    public List<TodoResponse> projection() {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+        return readOnlyTransaction.execute(status -> todoRepository.findResponsesByUserIdAndDueDateBetween(
+                user.getId(), start, end));
+    }
+
+    @Benchmark
+    public List<TodoResponse> cachedMonthView() {
+        return todoService.getTodosByMonth(principal, month);
+    }
+}
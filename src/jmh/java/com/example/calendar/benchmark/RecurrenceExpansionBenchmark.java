@@ -0,0 +1,89 @@
+package com.example.calendar.benchmark;
+
+import com.example.calendar.util.RecurrenceRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활성 시리즈가 많은 사용자의 월 구간 전개 비용. 시리즈는 몇 년 전에 시작해 구간으로 건너뛰는 경로를 탄다.
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 확인하며, 발생일 수만 세는 경로는 발생일 수와 무관해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecurrenceExpansionBenchmark {
+
+    private static final String[] RULES = {
+            "FREQ=DAILY",
+            "FREQ=DAILY;INTERVAL=2",
+            "FREQ=DAILY;BYDAY=MO,TU,WE,TH,FR",
+            "FREQ=WEEKLY;BYDAY=MO,WE,FR",
+            "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU",
+            "FREQ=MONTHLY;BYMONTHDAY=1,15,-1",
+            "FREQ=MONTHLY;BYDAY=-1FR",
+            "FREQ=YEARLY"
+    };
+
+    @Param({"100", "1000"})
+    private int seriesCount;
+
+    private String[] rrules;
+    private RecurrenceRule[] rules;
+    private LocalDate[] starts;
+    private LocalDate[] ends;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        YearMonth month = YearMonth.now();
+        from = month.atDay(1);
+        to = month.atEndOfMonth();
+
+        rrules = new String[seriesCount];
+        rules = new RecurrenceRule[seriesCount];
+        starts = new LocalDate[seriesCount];
+        ends = new LocalDate[seriesCount];
+        for (int i = 0; i < seriesCount; i++) {
+            rrules[i] = RULES[i % RULES.length];
+            rules[i] = RecurrenceRule.parse(rrules[i]);
+            starts[i] = from.minusYears(5).plusDays(i % 365);
+            ends[i] = rules[i].lastOccurrence(starts[i]);
+        }
+    }
+
+    @Benchmark
+    public long countOccurrences() {
+        long[] count = {0};
+        for (int i = 0; i < seriesCount; i++) {
+            rules[i].expand(starts[i], ends[i], from, to, epochDay -> {
+                count[0]++;
+                return true;
+            });
+        }
+        return count[0];
+    }
+
+    @Benchmark
+    public void parseAndExpandToDates(Blackhole blackhole) {
+        // 서비스 경로와 같이 시리즈마다 규칙을 파싱하고 발생일마다 LocalDate를 만든다
+        for (int i = 0; i < seriesCount; i++) {
+            RecurrenceRule.parse(rrules[i]).expand(starts[i], ends[i], from, to, epochDay -> {
+                blackhole.consume(LocalDate.ofEpochDay(epochDay));
+                return true;
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.calendar.benchmark;
+
+import com.example.calendar.dto.TodoResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 본문을 만드는 Jackson 직렬화 비용. 메시지 컨버터와 같은 설정의 ObjectMapper로
+ * 재사용하는 버퍼에 쓰므로 결과에는 직렬화 자체의 시간과 할당만 남는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoJsonSerializationBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TodoResponse> todos;
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build()
+                .writerFor(new TypeReference<List<TodoResponse>>() {
+                });
+
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        long updatedAt = 1704099600000L;
+        todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            todos.add(new TodoResponse((long) i, UUID.randomUUID(), "Todo " + i, "Benchmark description " + i,
+                    start.plusDays(i % 365), i % 3 == 0, updatedAt, updatedAt));
+        }
+        buffer = new ByteArrayOutputStream(size * 256);
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        buffer.reset();
+        writer.writeValue(buffer, todos);
+        return buffer.size();
+    }
+}
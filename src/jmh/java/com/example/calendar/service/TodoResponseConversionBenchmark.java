@@ -0,0 +1,44 @@
+package com.example.calendar.service;
+
+import com.example.calendar.domain.Todo;
+import com.example.calendar.domain.User;
+import com.example.calendar.dto.TodoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 한 건을 응답 DTO로 바꾸는 비용. {@link TodoService#convertToResponse}가 package-private이라
+ * 이 벤치마크만 service 패키지에 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TodoResponseConversionBenchmark {
+
+    private Todo todo;
+
+    @Setup
+    public void setUp() {
+        todo = Todo.builder()
+                .id(1L)
+                .user(User.builder().email("bench@example.com").build())
+                .title("Benchmark todo")
+                .description("Benchmark description")
+                .dueDate(LocalDate.of(2024, 1, 15))
+                .completed(true)
+                .build();
+    }
+
+    @Benchmark
+    public TodoResponse convertToResponse() {
+        return TodoService.convertToResponse(todo);
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.calendar.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test 프로필(H2)로 띄운 애플리케이션에 사용자 N명과 사용자당 할 일 M개를 넣고, 로그인·월 폴링·생성·완료 토글을
+ * 섞어 보낸 뒤 작업별 처리량과 p50/p95/p99를 출력한다. 지연이 load-budget.properties의 예산을 넘으면 실패한다.
+ *
+ * <p>규모는 시스템 속성으로 바꾼다: {@code load.users}, {@code load.todos-per-user}, {@code load.concurrency},
+ * {@code load.duration-seconds}, {@code load.warmup-seconds}, {@code load.budget}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class EndToEndLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 20);
+    private static final int TODOS_PER_USER = Integer.getInteger("load.todos-per-user", 50);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 5));
+    private static final String PASSWORD = "password";
+
+    // 작업 이름 -> 비중(%). 실제 클라이언트처럼 읽기(월 폴링)가 대부분이다.
+    private static final Map<String, Integer> MIX = new LinkedHashMap<>();
+
+    static {
+        MIX.put("login", 5);
+        MIX.put("month", 60);
+        MIX.put("create", 15);
+        MIX.put("toggle", 20);
+    }
+
+    private static final Map<String, String> ENDPOINTS = Map.of(
+            "login", "POST /api/auth/login",
+            "month", "GET /api/todos/month/{yearMonth}",
+            "create", "POST /api/todos",
+            "toggle", "PUT /api/todos/{id}");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final YearMonth month = YearMonth.now();
+
+    @LocalServerPort
+    private int port;
+
+    private LoadDriver driver;
+
+    @Test
+    void requestMixStaysWithinLatencyBudget() throws Exception {
+        driver = new LoadDriver("http://localhost:" + port);
+        LatencyBudget budget = LatencyBudget.load();
+        List<Session> sessions = seed();
+
+        ExecutorService executor = LoadDriver.executor(CONCURRENCY);
+        Map<String, LatencyRecorder> results = new LinkedHashMap<>();
+        try {
+            run(executor, sessions, WARMUP, new LinkedHashMap<>());
+            run(executor, sessions, DURATION, results);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = DURATION.toMillis() / 1000.0;
+        System.out.printf("users=%d todos/user=%d concurrency=%d duration=%ds%n",
+                USERS, TODOS_PER_USER, CONCURRENCY, DURATION.getSeconds());
+        results.forEach((operation, recorder) ->
+                System.out.println(recorder.summary(ENDPOINTS.get(operation), seconds)));
+
+        List<String> violations = budget.violations(results);
+        assertTrue(violations.isEmpty(), "latency budget exceeded:\n" + String.join("\n", violations));
+    }
+
+    private void run(ExecutorService executor, List<Session> sessions, Duration duration,
+                     Map<String, LatencyRecorder> results) throws Exception {
+        MIX.keySet().forEach(operation -> results.put(operation, new LatencyRecorder()));
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            Random random = new Random(i);
+            futures.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    Session session = sessions.get(random.nextInt(sessions.size()));
+                    String operation = pick(random);
+                    LatencyRecorder recorder = results.get(operation);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = driver.send(request(operation, session, random));
+                        if (response.statusCode() >= 400) {
+                            recorder.recordError();
+                            continue;
+                        }
+                        recorder.record(System.nanoTime() - start);
+                        session.onResponse(operation, response);
+                    } catch (IllegalStateException e) {
+                        recorder.recordError();
+                    }
+                }
+            }));
+        }
+        LoadDriver.await(futures);
+    }
+
+    private String pick(Random random) {
+        int roll = random.nextInt(100);
+        for (Map.Entry<String, Integer> entry : MIX.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("mix weights must add up to 100");
+    }
+
+    private HttpRequest request(String operation, Session session, Random random) {
+        switch (operation) {
+            case "login":
+                return driver.request("/api/auth/login")
+                        .POST(HttpRequest.BodyPublishers.ofString(session.credentials))
+                        .build();
+            case "month":
+                HttpRequest.Builder poll = driver.request("/api/todos/month/" + month)
+                        .header("Authorization", session.authorization())
+                        .GET();
+                String etag = session.monthEtag;
+                if (etag != null) {
+                    poll.header("If-None-Match", etag);
+                }
+                return poll.build();
+            case "create":
+                return driver.request("/api/todos")
+                        .header("Authorization", session.authorization())
+                        .POST(HttpRequest.BodyPublishers.ofString(todoJson("Load " + random.nextInt(),
+                                month.atDay(1 + random.nextInt(month.lengthOfMonth())).toString(), false)))
+                        .build();
+            case "toggle":
+                ObjectNode todo = session.pickTodo(random);
+                return driver.request("/api/todos/" + todo.get("id").asLong())
+                        .header("Authorization", session.authorization())
+                        .PUT(HttpRequest.BodyPublishers.ofString(todoJson(todo.get("title").asText(),
+                                todo.get("dueDate").asText(), !todo.get("completed").asBoolean())))
+                        .build();
+            default:
+                throw new IllegalArgumentException(operation);
+        }
+    }
+
+    private List<Session> seed() throws Exception {
+        List<Session> sessions = new ArrayList<>(USERS);
+        for (int u = 0; u < USERS; u++) {
+            String credentials = "{\"email\":\"load" + u + "@example.com\",\"password\":\"" + PASSWORD + "\"}";
+            driver.send(driver.request("/api/auth/register")
+                    .POST(HttpRequest.BodyPublishers.ofString(credentials)).build());
+            Session session = new Session(credentials);
+            session.token = login(credentials);
+
+            // 일괄 생성은 요청당 500건까지이므로 나눠 보낸다
+            List<String> todos = new ArrayList<>();
+            for (int i = 0; i < TODOS_PER_USER; i++) {
+                todos.add(todoJson("Todo " + i, month.atDay(1 + i % month.lengthOfMonth()).toString(), i % 4 == 0));
+                if (todos.size() == 500 || i == TODOS_PER_USER - 1) {
+                    driver.send(driver.request("/api/todos/bulk").header("Authorization", session.authorization())
+                            .POST(HttpRequest.BodyPublishers.ofString("[" + String.join(",", todos) + "]")).build());
+                    todos.clear();
+                }
+            }
+
+            JsonNode monthView = objectMapper.readTree(driver.send(driver.request("/api/todos/month/" + month)
+                    .header("Authorization", session.authorization()).GET().build()).body());
+            monthView.forEach(todo -> session.todos.add((ObjectNode) todo));
+            assertEquals(TODOS_PER_USER, session.todos.size(), "seeded todos for user " + u);
+            sessions.add(session);
+        }
+        return sessions;
+    }
+
+    private String login(String credentials) throws Exception {
+        return objectMapper.readTree(driver.send(driver.request("/api/auth/login")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build()).body()).get("token").asText();
+    }
+
+    private String todoJson(String title, String dueDate, boolean completed) {
+        return objectMapper.createObjectNode()
+                .put("title", title)
+                .put("dueDate", dueDate)
+                .put("completed", completed)
+                .toString();
+    }
+
+    /**
+     * 가상 사용자 여럿이 같은 세션을 번갈아 쓰므로 바뀌는 상태는 세션 단위로 동기화한다.
+     */
+    private class Session {
+        private final String credentials;
+        private final List<ObjectNode> todos = new ArrayList<>();
+        private volatile String token;
+        private volatile String monthEtag;
+
+        Session(String credentials) {
+            this.credentials = credentials;
+        }
+
+        String authorization() {
+            return "Bearer " + token;
+        }
+
+        synchronized ObjectNode pickTodo(Random random) {
+            return todos.get(random.nextInt(todos.size())).deepCopy();
+        }
+
+        void onResponse(String operation, HttpResponse<String> response) {
+            try {
+                switch (operation) {
+                    case "login":
+                        token = objectMapper.readTree(response.body()).get("token").asText();
+                        break;
+                    case "month":
+                        response.headers().firstValue("ETag").ifPresent(etag -> monthEtag = etag);
+                        break;
+                    case "create":
+                    case "toggle":
+                        replace((ObjectNode) objectMapper.readTree(response.body()));
+                        break;
+                    default:
+                        break;
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private synchronized void replace(ObjectNode todo) {
+            for (int i = 0; i < todos.size(); i++) {
+                if (todos.get(i).get("id").equals(todo.get("id"))) {
+                    todos.set(i, todo);
+                    return;
+                }
+            }
+            todos.add(todo);
+        }
+    }
+}
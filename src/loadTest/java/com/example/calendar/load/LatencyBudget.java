@@ -0,0 +1,69 @@
+package com.example.calendar.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 작업별 지연 예산. {@code <작업>.p95}, {@code <작업>.p99}(밀리초)와 {@code max-error-rate}를 읽어
+ * 측정값이 넘은 항목을 돌려준다. 예산이 없는 백분위는 검사하지 않는다.
+ */
+public class LatencyBudget {
+
+    private static final double[] PERCENTILES = {50, 95, 99};
+
+    private final Properties budget;
+
+    private LatencyBudget(Properties budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * {@code load.budget} 시스템 속성의 파일이 있으면 그것을, 없으면 클래스패스의 load-budget.properties를 읽는다.
+     */
+    public static LatencyBudget load() {
+        Properties properties = new Properties();
+        String path = System.getProperty("load.budget");
+        try (InputStream in = path != null
+                ? Files.newInputStream(Path.of(path))
+                : LatencyBudget.class.getResourceAsStream("/load-budget.properties")) {
+            if (in == null) {
+                throw new IllegalStateException("load-budget.properties not found on the classpath");
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new LatencyBudget(properties);
+    }
+
+    public List<String> violations(Map<String, LatencyRecorder> results) {
+        List<String> violations = new ArrayList<>();
+        double maxErrorRate = Double.parseDouble(budget.getProperty("max-error-rate", "0"));
+        results.forEach((operation, recorder) -> {
+            int total = recorder.getCount() + recorder.getErrors();
+            if (total > 0 && recorder.getErrors() / (double) total > maxErrorRate) {
+                violations.add(String.format("%s error rate %d/%d exceeds %.2f%%",
+                        operation, recorder.getErrors(), total, maxErrorRate * 100));
+            }
+            for (double percentile : PERCENTILES) {
+                String limit = budget.getProperty(operation + ".p" + (int) percentile);
+                if (limit == null) {
+                    continue;
+                }
+                double measured = recorder.percentileMillis(percentile);
+                if (measured > Double.parseDouble(limit)) {
+                    violations.add(String.format("%s p%d %.2fms exceeds budget %sms",
+                            operation, (int) percentile, measured, limit));
+                }
+            }
+        });
+        return violations;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.calendar.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public synchronized void recordError() {
+        errors++;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    public synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public String summary(String name, double seconds) {
+        return String.format("%-28s n=%-7d err=%-5d rps=%-9.1f p50=%7.2fms p95=%7.2fms p99=%7.2fms",
+                name, getCount(), getErrors(), getCount() / seconds,
+                percentileMillis(50), percentileMillis(95), percentileMillis(99));
+    }
+}
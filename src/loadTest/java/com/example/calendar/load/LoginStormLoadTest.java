@@ -0,0 +1,87 @@
+package com.example.calendar.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로그인 폭주 중에도 월별 할 일 조회의 p99가 평상시 수준을 유지하는지 확인한다.
+ * 요청 스레드를 일부러 적게 두어 BCrypt가 요청 스레드를 점유하면 바로 드러나게 한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=16",
+        "password.bcrypt.strength=12",
+        "password.hashing.pool-size=2",
+        "password.hashing.queue-capacity=8"
+})
+@ActiveProfiles("test")
+class LoginStormLoadTest {
+
+    private static final int READERS = 8;
+    private static final int STORM_USERS = 64;
+    private static final Duration DURATION = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void todoReadLatencyStaysFlatDuringLoginStorm() throws Exception {
+        LoadDriver driver = new LoadDriver("http://localhost:" + port);
+        String credentials = "{\"email\":\"storm@example.com\",\"password\":\"password\"}";
+
+        driver.send(driver.request("/api/auth/register")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build());
+        JsonNode login = objectMapper.readTree(driver.send(driver.request("/api/auth/login")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build()).body());
+        String authorization = "Bearer " + login.get("token").asText();
+
+        for (int i = 0; i < 20; i++) {
+            String todo = "{\"title\":\"Todo " + i + "\",\"dueDate\":\"" + YearMonth.now().atDay(1 + i % 28) + "\"}";
+            driver.send(driver.request("/api/todos").header("Authorization", authorization)
+                    .POST(HttpRequest.BodyPublishers.ofString(todo)).build());
+        }
+
+        Supplier<HttpRequest> monthRead = () -> driver.request("/api/todos/month/" + YearMonth.now())
+                .header("Authorization", authorization).GET().build();
+        Supplier<HttpRequest> loginAttempt = () -> driver.request("/api/auth/login")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build();
+
+        ExecutorService executor = LoadDriver.executor(READERS + STORM_USERS);
+        try {
+            LatencyRecorder baseline = new LatencyRecorder();
+            LoadDriver.await(driver.start(executor, READERS, DURATION, monthRead, baseline));
+
+            LatencyRecorder reads = new LatencyRecorder();
+            LatencyRecorder logins = new LatencyRecorder();
+            List<Future<?>> storm = driver.start(executor, STORM_USERS, DURATION, loginAttempt, logins);
+            LoadDriver.await(driver.start(executor, READERS, DURATION, monthRead, reads));
+            LoadDriver.await(storm);
+
+            double seconds = DURATION.toMillis() / 1000.0;
+            System.out.println(baseline.summary("month read (baseline)", seconds));
+            System.out.println(reads.summary("month read (login storm)", seconds));
+            System.out.println(logins.summary("login (storm)", seconds));
+
+            assertEquals(0, reads.getErrors());
+            assertTrue(reads.percentileMillis(99) <= baseline.percentileMillis(99) * 3 + 20,
+                    "month read p99 degraded during login storm");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.calendar.load;
+
+import com.example.calendar.config.CacheConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청 스레드를 8개로 묶어 두고 같은 동시 사용자 수로 서블릿 조회와 리액티브 조회를 번갈아 측정한다.
+ * 서블릿 조회는 쿼리를 기다리는 동안 스레드를 잡고 있으므로 스레드 수만큼만 동시에 진행되고,
+ * 리액티브 조회는 R2DBC 풀 크기까지 진행된다. 먼저 두 API의 응답 본문이 같은지 확인한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=8",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.show-sql=false",
+        "todo.reactive.enabled=true",
+        "todo.reactive.pool.max-size=20",
+        "todo.purge.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ReactiveReadLoadTest {
+
+    private static final int USERS = 512;
+    private static final int TODOS = 300;
+    private static final Duration DURATION = Duration.ofSeconds(10);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("todo.reactive.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + POSTGRES.getDatabaseName());
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void reactiveReadsMatchServletReadsAndHoldUpUnderConcurrency() throws Exception {
+        LoadDriver driver = new LoadDriver("http://localhost:" + port);
+        String authorization = seed(driver);
+        String month = YearMonth.now().toString();
+        String date = LocalDate.now().toString();
+
+        for (String path : List.of("?size=50", "/date/" + date, "/month/" + month)) {
+            // 두 API가 월 캐시를 공유하므로 각자 DB에서 읽도록 매번 비운다
+            cacheManager.getCache(CacheConfig.TODO_MONTHS).clear();
+            HttpResponse<String> servlet = driver.send(driver.request("/api/todos" + path)
+                    .header("Authorization", authorization).GET().build());
+            HttpResponse<String> reactive = driver.send(driver.request("/api/reactive/todos" + path)
+                    .header("Authorization", authorization).GET().build());
+            cacheManager.getCache(CacheConfig.TODO_MONTHS).clear();
+            assertEquals(200, reactive.statusCode(), path);
+            assertEquals(objectMapper.readTree(servlet.body()), objectMapper.readTree(reactive.body()), path);
+            assertEquals(servlet.headers().firstValue("X-Next-Cursor"),
+                    reactive.headers().firstValue("X-Next-Cursor"), path);
+        }
+
+        ExecutorService executor = LoadDriver.executor(USERS);
+        try {
+            double seconds = DURATION.toMillis() / 1000.0;
+            for (String path : List.of("?size=20", "/month/" + month)) {
+                LatencyRecorder servlet = measure(driver, executor, "/api/todos" + path, authorization);
+                LatencyRecorder reactive = measure(driver, executor, "/api/reactive/todos" + path, authorization);
+                System.out.println(servlet.summary("servlet  " + path, seconds));
+                System.out.println(reactive.summary("reactive " + path, seconds));
+
+                assertEquals(0, reactive.getErrors(), "reactive " + path);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LatencyRecorder measure(LoadDriver driver, ExecutorService executor, String path,
+                                    String authorization) throws Exception {
+        Supplier<HttpRequest> read = () -> driver.request(path).header("Authorization", authorization).GET().build();
+        // 짧게 데운 뒤 측정한다
+        LoadDriver.await(driver.start(executor, 16, Duration.ofSeconds(3), read, new LatencyRecorder()));
+        LatencyRecorder recorder = new LatencyRecorder();
+        LoadDriver.await(driver.start(executor, USERS, DURATION, read, recorder));
+        return recorder;
+    }
+
+    private String seed(LoadDriver driver) throws Exception {
+        String credentials = "{\"email\":\"reactive@example.com\",\"password\":\"password\"}";
+        driver.send(driver.request("/api/auth/register")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build());
+        JsonNode login = objectMapper.readTree(driver.send(driver.request("/api/auth/login")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build()).body());
+        String authorization = "Bearer " + login.get("token").asText();
+
+        List<String> todos = new ArrayList<>();
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i < TODOS; i++) {
+            String dueDate = i % 10 == 0 ? "null" : "\"" + month.atDay(1 + i % month.lengthOfMonth()) + "\"";
+            todos.add("{\"title\":\"Todo " + i + "\",\"dueDate\":" + dueDate + "}");
+        }
+        driver.send(driver.request("/api/todos/bulk").header("Authorization", authorization)
+                .POST(HttpRequest.BodyPublishers.ofString("[" + String.join(",", todos) + "]")).build());
+
+        String series = "{\"title\":\"Standup\",\"rrule\":\"FREQ=WEEKLY;BYDAY=MO,WE,FR\",\"startDate\":\""
+                + month.atDay(1) + "\"}";
+        driver.send(driver.request("/api/todos/series").header("Authorization", authorization)
+                .POST(HttpRequest.BodyPublishers.ofString(series)).build());
+        return authorization;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.calendar.load;
+
+import com.example.calendar.CalendarApplication;
+import com.example.calendar.util.VirtualThreads;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 같은 PostgreSQL 위에서 플랫폼 스레드 풀과 가상 스레드로 각각 애플리케이션을 띄우고
+ * 동시 사용자 수를 늘려 가며 오류 없이 p99 예산을 지키는 최대 동시 요청 수를 비교한다.
+ * 두 모드 모두 커넥션 풀 크기는 같으므로 차이는 요청 스레드 상한에서만 나온다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class VirtualThreadLoadTest {
+
+    private static final int[] CONCURRENCY = {32, 64, 128, 256, 512, 1024};
+    private static final int PLATFORM_THREADS = 64;
+    private static final int POOL_SIZE = 20;
+    private static final int TODOS = 200;
+    private static final double P99_BUDGET_MILLIS = 1000;
+    private static final Duration STEP = Duration.ofSeconds(10);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "max_connections=200");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void virtualThreadsSustainAtLeastAsManyConcurrentRequests() throws Exception {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads require a Java 21+ runtime");
+
+        Map<Integer, LatencyRecorder> platform = run(false);
+        Map<Integer, LatencyRecorder> virtual = run(true);
+
+        double seconds = STEP.toMillis() / 1000.0;
+        for (int users : CONCURRENCY) {
+            System.out.println(platform.get(users).summary("platform x" + users, seconds));
+            System.out.println(virtual.get(users).summary("virtual  x" + users, seconds));
+        }
+        int platformMax = maxSustainable(platform);
+        int virtualMax = maxSustainable(virtual);
+        System.out.printf("max sustainable concurrency: platform=%d virtual=%d%n", platformMax, virtualMax);
+
+        assertTrue(virtualMax >= platformMax,
+                "virtual threads sustained fewer concurrent requests than the platform pool");
+    }
+
+    private Map<Integer, LatencyRecorder> run(boolean virtualThreads) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CalendarApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.jpa.show-sql=false",
+                        "server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "server.tomcat.virtual-threads.enabled=" + virtualThreads,
+                        "todo.purge.enabled=false")
+                .run();
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver("http://localhost:" + port);
+            String authorization = seed(driver);
+
+            Supplier<HttpRequest> listRead = () -> driver.request("/api/todos?size=20")
+                    .header("Authorization", authorization).GET().build();
+
+            Map<Integer, LatencyRecorder> results = new LinkedHashMap<>();
+            ExecutorService executor = LoadDriver.executor(CONCURRENCY[CONCURRENCY.length - 1]);
+            try {
+                // JIT과 커넥션 풀을 데운 뒤 측정한다
+                LoadDriver.await(driver.start(executor, CONCURRENCY[0], Duration.ofSeconds(5), listRead,
+                        new LatencyRecorder()));
+                for (int users : CONCURRENCY) {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    LoadDriver.await(driver.start(executor, users, STEP, listRead, recorder));
+                    results.put(users, recorder);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            return results;
+        } finally {
+            context.close();
+        }
+    }
+
+    private String seed(LoadDriver driver) throws Exception {
+        String credentials = "{\"email\":\"threads@example.com\",\"password\":\"password\"}";
+        driver.send(driver.request("/api/auth/register")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build());
+        JsonNode login = objectMapper.readTree(driver.send(driver.request("/api/auth/login")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build()).body());
+        String authorization = "Bearer " + login.get("token").asText();
+
+        // 두 번째 실행은 같은 데이터베이스를 쓰므로 이미 채워져 있으면 건너뛴다
+        JsonNode existing = objectMapper.readTree(driver.send(driver.request("/api/todos?size=1")
+                .header("Authorization", authorization).GET().build()).body());
+        if (existing.size() > 0) {
+            return authorization;
+        }
+
+        List<String> todos = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < TODOS; i++) {
+            todos.add("{\"title\":\"Todo " + i + "\",\"dueDate\":\""
+                    + today.plusDays(ThreadLocalRandom.current().nextInt(-90, 90)) + "\"}");
+        }
+        driver.send(driver.request("/api/todos/bulk").header("Authorization", authorization)
+                .POST(HttpRequest.BodyPublishers.ofString("[" + String.join(",", todos) + "]")).build());
+        return authorization;
+    }
+
+    private static int maxSustainable(Map<Integer, LatencyRecorder> results) {
+        int max = 0;
+        for (Map.Entry<Integer, LatencyRecorder> entry : results.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            if (recorder.getErrors() > 0 || recorder.percentileMillis(99) > P99_BUDGET_MILLIS) {
+                break;
+            }
+            max = entry.getKey();
+        }
+        return max;
+    }
+}
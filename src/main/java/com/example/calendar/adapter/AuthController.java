@@ -2,17 +2,21 @@ package com.example.calendar.adapter;
 
 import com.example.calendar.dto.AuthRequest;
 import com.example.calendar.dto.AuthResponse;
+import com.example.calendar.dto.RefreshRequest;
 import com.example.calendar.service.AuthService;
+import com.example.calendar.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "인증", description = "사용자 인증 관련 API")
 @RestController
@@ -21,17 +25,32 @@ import javax.validation.Valid;
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtUtil jwtUtil;
 
     @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인합니다.")
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
-        return ResponseEntity.ok(authService.authenticate(request));
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody AuthRequest request) {
+        return authService.authenticate(request).thenApply(ResponseEntity::ok);
     }
 
     @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
     @PostMapping("/register")
-    public ResponseEntity<Void> register(@Valid @RequestBody AuthRequest request) {
-        authService.register(request);
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Void>> register(@Valid @RequestBody AuthRequest request) {
+        return authService.register(request).thenApply(ignored -> ResponseEntity.ok().<Void>build());
+    }
+
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다.")
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @Operation(summary = "로그아웃", description = "액세스 토큰과 리프레시 토큰을 폐기합니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = "${jwt.header}", required = false) String authorization,
+            @Valid @RequestBody RefreshRequest request) {
+        authService.logout(jwtUtil.resolveToken(authorization), request);
+        return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
@@ -1,22 +1,40 @@
 package com.example.calendar.adapter;
 
+import com.example.calendar.dto.BulkItemResult;
+import com.example.calendar.dto.DailyTodoSummary;
+import com.example.calendar.dto.TodoBulkUpdateRequest;
+import com.example.calendar.dto.TodoChanges;
+import com.example.calendar.dto.TodoPage;
 import com.example.calendar.dto.TodoRequest;
 import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoVersion;
 import com.example.calendar.service.TodoService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Tag(name = "할 일", description = "할 일 관리 API")
 @RestController
@@ -24,7 +42,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TodoController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TodoService todoService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "할 일 생성", description = "새로운 할 일을 생성합니다.")
     @PostMapping
@@ -34,11 +56,83 @@ public class TodoController {
         return ResponseEntity.ok(todoService.createTodo(userDetails, request));
     }
 
-    @Operation(summary = "할 일 목록 조회", description = "사용자의 모든 할 일을 조회합니다.")
+    @Operation(summary = "할 일 일괄 생성", description = "여러 할 일을 한 번에 생성하고 항목별 처리 결과를 돌려줍니다.")
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResult>> createTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody List<TodoRequest> requests) {
+        return ResponseEntity.ok(todoService.createTodos(userDetails, requests));
+    }
+
+    @Operation(summary = "할 일 일괄 수정", description = "여러 할 일을 한 번에 수정하고 항목별 처리 결과를 돌려줍니다.")
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResult>> updateTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody List<TodoBulkUpdateRequest> requests) {
+        return ResponseEntity.ok(todoService.updateTodos(userDetails, requests));
+    }
+
+    @Operation(summary = "할 일 일괄 삭제", description = "여러 할 일을 한 번에 소프트 삭제하고 항목별 처리 결과를 돌려줍니다.")
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResult>> deleteTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(todoService.deleteTodos(userDetails, ids));
+    }
+
+    @Operation(summary = "할 일 일괄 복원", description = "소프트 삭제된 여러 할 일을 한 번에 복원하고 항목별 처리 결과를 돌려줍니다.")
+    @PostMapping("/bulk/restore")
+    public ResponseEntity<List<BulkItemResult>> restoreTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(todoService.restoreTodos(userDetails, ids));
+    }
+
+    @Operation(summary = "할 일 목록 조회", description = "사용자의 할 일을 마감일, ID 순으로 페이지 단위로 조회합니다.")
     @GetMapping
     public ResponseEntity<List<TodoResponse>> getTodos(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(todoService.getTodos(userDetails));
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전 응답의 X-Next-Cursor 값")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 100, 최대 500)")
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        if (notModified(webRequest, todoService.getTodosVersion(userDetails))) {
+            return null;
+        }
+        return toPageResponse(todoService.getTodos(userDetails, cursor, size));
+    }
+
+    @Operation(summary = "할 일 전체 스트리밍 조회", description = "사용자의 모든 할 일을 페이지 없이 JSON 배열로 스트리밍합니다.")
+    @GetMapping(params = "stream=true")
+    public void streamTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+        writeJsonArray(response, consumer -> todoService.streamTodos(userDetails, consumer));
+    }
+
+    @Operation(summary = "할 일 검색", description = "제목과 설명에서 모든 단어가 (접두어로) 들어 있는 할 일을 관련도 순으로 조회합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<List<TodoResponse>> searchTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "검색어 (공백으로 구분한 단어 최대 8개)")
+            @RequestParam String q,
+            @Parameter(description = "이전 응답의 X-Next-Cursor 값")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size) {
+        return toPageResponse(todoService.searchTodos(userDetails, q, cursor, size));
+    }
+
+    @Operation(summary = "변경 내역 조회", description = "동기화 토큰 이후에 생성, 수정, 삭제된 할 일만 조회합니다.")
+    @GetMapping("/changes")
+    public ResponseEntity<TodoChanges> getChanges(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextToken 값 (없으면 처음부터)")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "페이지 크기 (기본 100, 최대 500)")
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(todoService.getChanges(userDetails, since, size));
     }
 
     @Operation(summary = "할 일 상세 조회", description = "특정 할 일의 상세 정보를 조회합니다.")
@@ -76,11 +170,23 @@ public class TodoController {
         return ResponseEntity.ok().build();
     }
 
-    @Operation(summary = "삭제된 할 일 목록 조회", description = "소프트 삭제된 할 일 목록을 조회합니다.")
+    @Operation(summary = "삭제된 할 일 목록 조회", description = "소프트 삭제된 할 일 목록을 페이지 단위로 조회합니다.")
     @GetMapping("/deleted")
     public ResponseEntity<List<TodoResponse>> getDeletedTodos(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(todoService.getDeletedTodos(userDetails));
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전 응답의 X-Next-Cursor 값")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 100, 최대 500)")
+            @RequestParam(required = false) Integer size) {
+        return toPageResponse(todoService.getDeletedTodos(userDetails, cursor, size));
+    }
+
+    @Operation(summary = "삭제된 할 일 스트리밍 조회", description = "소프트 삭제된 할 일 전체를 JSON 배열로 스트리밍합니다.")
+    @GetMapping(value = "/deleted", params = "stream=true")
+    public void streamDeletedTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+        writeJsonArray(response, consumer -> todoService.streamDeletedTodos(userDetails, consumer));
     }
 
     @Operation(summary = "일별 할 일 조회", description = "특정 날짜의 할 일을 조회합니다.")
@@ -88,16 +194,85 @@ public class TodoController {
     public ResponseEntity<List<TodoResponse>> getTodosByDate(
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd 형식)")
-            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
-        return ResponseEntity.ok(todoService.getTodosByDate(userDetails, date));
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            WebRequest webRequest) {
+        if (notModified(webRequest, todoService.getDateVersion(userDetails, date))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(todoService.getTodosByDate(userDetails, date));
     }
 
     @Operation(summary = "월별 할 일 조회", description = "특정 월의 할 일을 조회합니다.")
     @GetMapping("/month/{yearMonth}")
     public ResponseEntity<List<TodoResponse>> getTodosByMonth(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "조회할 연월 (yyyy-MM 형식)")
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth,
+            WebRequest webRequest) {
+        if (notModified(webRequest, todoService.getMonthVersion(userDetails, yearMonth))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(todoService.getTodosByMonth(userDetails, yearMonth));
+    }
+
+    @Operation(summary = "월별 일자 요약 조회", description = "특정 월의 날짜별 전체, 완료, 기한 초과 할 일 수를 조회합니다.")
+    @GetMapping("/month/{yearMonth}/summary")
+    public ResponseEntity<List<DailyTodoSummary>> getMonthSummary(
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "조회할 연월 (yyyy-MM 형식)")
             @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth) {
-        return ResponseEntity.ok(todoService.getTodosByMonth(userDetails, yearMonth));
+        return ResponseEntity.ok(todoService.getMonthSummary(userDetails, yearMonth));
+    }
+
+    @Operation(summary = "월별 할 일 스트리밍 조회", description = "특정 월의 할 일을 JSON 배열로 스트리밍합니다.")
+    @GetMapping(value = "/month/{yearMonth}", params = "stream=true")
+    public void streamTodosByMonth(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "조회할 연월 (yyyy-MM 형식)")
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth,
+            HttpServletResponse response) throws IOException {
+        writeJsonArray(response, consumer -> todoService.streamTodosByMonth(userDetails, yearMonth, consumer));
+    }
+
+    private void writeJsonArray(HttpServletResponse response,
+                                Consumer<Consumer<TodoResponse>> source) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            source.accept(todo -> {
+                try {
+                    generator.writeObject(todo);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    private boolean notModified(WebRequest webRequest, TodoVersion version) {
+        // ETag와 Last-Modified 헤더도 여기서 응답에 붙는다
+        return webRequest.checkNotModified(version.getETag(), version.getLastModifiedOrUnknown());
+    }
+
+    private ResponseEntity<List<TodoResponse>> toPageResponse(TodoPage page) {
+        if (!page.hasNext()) {
+            return ResponseEntity.ok()
+                    .cacheControl(REVALIDATE)
+                    .body(page.getItems());
+        }
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", page.getNextCursor())
+                .toUriString();
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(page.getItems());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.example.calendar.adapter;
+
+import com.example.calendar.dto.FeedResponse;
+import com.example.calendar.dto.TodoVersion;
+import com.example.calendar.service.TodoFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Tag(name = "구독 피드", description = "iCalendar 구독 피드 API")
+@RestController
+@RequiredArgsConstructor
+public class TodoFeedController {
+
+    private static final String CALENDAR_CONTENT_TYPE = "text/calendar; charset=UTF-8";
+
+    private final TodoFeedService todoFeedService;
+
+    @Operation(summary = "구독 피드 주소 발급", description = "새 피드 토큰을 발급하고 webcal 주소를 돌려줍니다. 이전 주소는 더 이상 동작하지 않습니다.")
+    @PostMapping("/api/todos/feed/token")
+    public ResponseEntity<FeedResponse> rotateFeedToken(@AuthenticationPrincipal UserDetails userDetails) {
+        String token = todoFeedService.rotateToken(userDetails);
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/feed/{token}.ics")
+                .scheme("webcal")
+                .buildAndExpand(token)
+                .toUriString();
+        return ResponseEntity.ok(new FeedResponse(url));
+    }
+
+    @Operation(summary = "구독 피드", description = "삭제되지 않은 할 일을 VTODO로 내보냅니다. 인증 대신 피드 토큰을 사용합니다.")
+    @GetMapping("/api/feed/{token}.ics")
+    public void getFeed(
+            @PathVariable String token,
+            WebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+        Long userId = todoFeedService.resolveUserId(token);
+
+        TodoFeedService.RenderedFeed cached = todoFeedService.getCached(userId);
+        if (cached != null) {
+            if (webRequest.checkNotModified(cached.getETag(), cached.getLastModified())) {
+                return;
+            }
+            prepare(response);
+            response.setContentLength(cached.getBody().length);
+            response.getOutputStream().write(cached.getBody());
+            return;
+        }
+
+        TodoFeedService.FeedVersion version = todoFeedService.getVersion(userId);
+        TodoVersion todoVersion = version.getTodoVersion();
+        if (webRequest.checkNotModified(todoVersion.getETag(), todoVersion.getLastModifiedOrUnknown())) {
+            return;
+        }
+        prepare(response);
+        todoFeedService.render(userId, version, response.getOutputStream());
+    }
+
+    private void prepare(HttpServletResponse response) {
+        response.setContentType(CALENDAR_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+    }
+}
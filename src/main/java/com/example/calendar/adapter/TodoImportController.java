@@ -0,0 +1,60 @@
+package com.example.calendar.adapter;
+
+import com.example.calendar.dto.TodoImportEvent;
+import com.example.calendar.service.TodoImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@Tag(name = "할 일 가져오기", description = "iCalendar 가져오기 API")
+@RestController
+@RequestMapping("/api/todos")
+@RequiredArgsConstructor
+public class TodoImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final TodoImportService todoImportService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "iCalendar 가져오기",
+            description = ".ics 파일의 VTODO/VEVENT를 할 일로 가져오고 진행 상황을 NDJSON으로 스트리밍합니다.")
+    @PostMapping(value = "/import", consumes = {"text/calendar", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public void importCalendar(
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+        ObjectWriter writer = objectMapper.writer();
+
+        todoImportService.importCalendar(userDetails, request.getInputStream(), event -> {
+            try {
+                out.write(writer.writeValueAsBytes(event));
+                out.write('\n');
+                // 오류 줄은 모아서 보내고 배치 진행 상황마다 내보낸다
+                if (!TodoImportEvent.ERROR.equals(event.getType())) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
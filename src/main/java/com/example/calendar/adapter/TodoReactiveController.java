@@ -0,0 +1,93 @@
+package com.example.calendar.adapter;
+
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.service.TodoReactiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 조회 전용 리액티브 API. 인증은 서블릿 필터 체인의 JwtAuthenticationFilter를 그대로 거치고,
+ * 핸들러가 Mono를 돌려주면 요청은 비동기로 전환되어 쿼리를 기다리는 동안 Tomcat 스레드를 점유하지 않는다.
+ */
+@Tag(name = "할 일 (리액티브 조회)", description = "R2DBC 기반 할 일 조회 API")
+@RestController
+@RequestMapping("/api/reactive/todos")
+@ConditionalOnProperty(name = "todo.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TodoReactiveController {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final TodoReactiveService todoReactiveService;
+
+    @Operation(summary = "할 일 목록 조회", description = "GET /api/todos와 같은 순서와 커서로 할 일을 페이지 단위로 조회합니다.")
+    @GetMapping
+    public Mono<ResponseEntity<List<TodoResponse>>> getTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전 응답의 X-Next-Cursor 값")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 100, 최대 500)")
+            @RequestParam(required = false) Integer size) {
+        // 결과는 요청 스레드 밖에서 나오므로 다음 페이지 주소의 기준이 될 현재 요청 URI를 미리 잡아 둔다
+        UriComponentsBuilder current = ServletUriComponentsBuilder.fromCurrentRequest();
+        return todoReactiveService.getTodos(userDetails, cursor, size).map(page -> {
+            if (!page.hasNext()) {
+                return ResponseEntity.ok()
+                        .cacheControl(REVALIDATE)
+                        .body(page.getItems());
+            }
+            String next = current.replaceQueryParam("cursor", page.getNextCursor()).toUriString();
+            return ResponseEntity.ok()
+                    .cacheControl(REVALIDATE)
+                    .header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                    .body(page.getItems());
+        });
+    }
+
+    @Operation(summary = "일별 할 일 조회", description = "특정 날짜의 할 일을 조회합니다.")
+    @GetMapping("/date/{date}")
+    public Mono<ResponseEntity<List<TodoResponse>>> getTodosByDate(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "조회할 날짜 (yyyy-MM-dd 형식)")
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+        return todoReactiveService.getTodosByDate(userDetails, date).map(this::toResponse);
+    }
+
+    @Operation(summary = "월별 할 일 조회", description = "특정 월의 할 일을 조회합니다.")
+    @GetMapping("/month/{yearMonth}")
+    public Mono<ResponseEntity<List<TodoResponse>>> getTodosByMonth(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "조회할 연월 (yyyy-MM 형식)")
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth) {
+        return todoReactiveService.getTodosByMonth(userDetails, yearMonth).map(this::toResponse);
+    }
+
+    private ResponseEntity<List<TodoResponse>> toResponse(List<TodoResponse> todos) {
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(todos);
+    }
+}
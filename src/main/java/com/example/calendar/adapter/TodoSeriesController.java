@@ -0,0 +1,71 @@
+package com.example.calendar.adapter;
+
+import com.example.calendar.dto.TodoOccurrenceRequest;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoSeriesRequest;
+import com.example.calendar.dto.TodoSeriesResponse;
+import com.example.calendar.service.TodoSeriesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "반복 할 일", description = "반복 할 일 시리즈 API")
+@RestController
+@RequestMapping("/api/todos/series")
+@RequiredArgsConstructor
+public class TodoSeriesController {
+
+    private final TodoSeriesService todoSeriesService;
+
+    @Operation(summary = "반복 할 일 생성", description = "RRULE로 반복 규칙을 지정한 시리즈를 생성합니다. 발생일은 일별/월별 조회에 함께 나타납니다.")
+    @PostMapping
+    public ResponseEntity<TodoSeriesResponse> createSeries(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody TodoSeriesRequest request) {
+        return ResponseEntity.ok(todoSeriesService.createSeries(userDetails, request));
+    }
+
+    @Operation(summary = "반복 할 일 목록 조회", description = "삭제되지 않은 시리즈를 시작일 순으로 조회합니다.")
+    @GetMapping
+    public ResponseEntity<List<TodoSeriesResponse>> getSeries(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(todoSeriesService.getSeries(userDetails));
+    }
+
+    @Operation(summary = "반복 할 일 수정", description = "시리즈의 내용과 반복 규칙을 수정합니다.")
+    @PutMapping("/{id}")
+    public ResponseEntity<TodoSeriesResponse> updateSeries(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id,
+            @Valid @RequestBody TodoSeriesRequest request) {
+        return ResponseEntity.ok(todoSeriesService.updateSeries(userDetails, id, request));
+    }
+
+    @Operation(summary = "반복 할 일 삭제", description = "시리즈를 소프트 삭제합니다. 모든 발생일이 조회에서 빠집니다.")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSeries(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id) {
+        todoSeriesService.deleteSeries(userDetails, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "발생일 완료/취소", description = "시리즈의 특정 발생일만 완료 처리하거나 취소(EXDATE)합니다.")
+    @PutMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<TodoResponse> updateOccurrence(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestBody TodoOccurrenceRequest request) {
+        return ResponseEntity.ok(todoSeriesService.updateOccurrence(userDetails, id, date, request));
+    }
+}
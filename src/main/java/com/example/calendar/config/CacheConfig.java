@@ -0,0 +1,57 @@
+package com.example.calendar.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+    public static final String USERS_BY_ID = "usersById";
+    public static final String TODO_MONTHS = "todoMonths";
+
+    @Value("${cache.users.max-size:10000}")
+    private Long userCacheMaxSize;
+
+    @Value("${cache.users.ttl:300}")
+    private Long userCacheTtl;
+
+    @Value("${cache.todo-months.max-weight:200000}")
+    private Long todoMonthsMaxWeight;
+
+    @Value("${cache.todo-months.ttl:600}")
+    private Long todoMonthsTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(userCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(userCacheTtl))
+                .recordStats());
+        cacheManager.setCacheNames(List.of(USERS_BY_EMAIL, USERS_BY_ID));
+        cacheManager.setAllowNullValues(false);
+        // 월 목록은 크기가 제각각이라 항목 수가 아니라 담긴 할 일 수로 상한을 둔다
+        cacheManager.registerCustomCache(TODO_MONTHS, Caffeine.newBuilder()
+                .maximumWeight(todoMonthsMaxWeight)
+                .weigher(CacheConfig::weighByElements)
+                .expireAfterWrite(Duration.ofSeconds(todoMonthsTtl))
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    private static int weighByElements(Object key, Object value) {
+        return value instanceof Collection ? ((Collection<?>) value).size() + 1 : 1;
+    }
+}
@@ -1,6 +1,12 @@
 package com.example.calendar.config;
 
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.service.TokenRevocationList;
+import com.example.calendar.service.UserStatusCache;
 import com.example.calendar.util.JwtUtil;
+import com.example.calendar.util.TokenClaims;
+import com.example.calendar.util.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,7 +27,10 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final TokenRevocationList tokenRevocationList;
     private final JwtConfig jwtConfig;
 
     @Override
@@ -30,18 +39,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader(jwtConfig.getHeader());
 
-        String username = null;
-        String jwt = null;
+        TokenClaims claims = null;
 
-        if (authorizationHeader != null && authorizationHeader.startsWith(jwtConfig.getPrefix())) {
-            jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
+        String jwt = jwtUtil.resolveToken(authorizationHeader);
+        if (jwt != null) {
+            claims = resolveClaims(jwt);
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = loadPrincipal(claims);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (userDetails != null && jwtUtil.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 usernamePasswordAuthenticationToken
@@ -51,4 +59,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         chain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    private UserDetails loadPrincipal(TokenClaims claims) {
+        if (jwtConfig.isStatelessPrincipal() && claims.getUserId() != null) {
+            if (!userStatusCache.isActive(claims.getUserId())) {
+                return null;
+            }
+            return new UserPrincipal(claims.getUserId(), claims.getSubject(), null, claims.getRoles());
+        }
+        return this.userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
+    private TokenClaims resolveClaims(String jwt) {
+        TokenClaims claims;
+        try {
+            claims = verifiedTokenCache.resolve(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        return tokenRevocationList.isRevoked(claims.getTokenId()) ? null : claims;
+    }
+}
@@ -13,9 +13,27 @@ public class JwtConfig {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.refresh-expiration:1209600}")
+    private Long refreshExpiration;
+
     @Value("${jwt.header}")
     private String header;
 
     @Value("${jwt.prefix}")
     private String prefix;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private Long cacheMaxSize;
+
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    @Value("${jwt.principal-recheck-ttl:60}")
+    private Long principalRecheckTtl;
+
+    @Value("${jwt.revocation.expected-insertions:1000000}")
+    private Long revocationExpectedInsertions;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private Double revocationFalsePositiveRate;
 } 
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.calendar.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * {@code @Timed}가 붙은 빈 메서드를 타이머로 감싸고, Prometheus 수집 계정을 보관한다.
+ * 수집 계정은 JWT가 아니라 HTTP Basic으로 /actuator/** 에만 쓰인다.
+ * 비밀번호에는 기본값이 없으며, 비어 있으면 알려진 값으로 엔드포인트가 열리지 않도록 기동을 멈춘다.
+ */
+@Configuration
+@Getter
+public class MetricsConfig {
+    @Value("${metrics.scrape.username:prometheus}")
+    private String scrapeUsername;
+
+    @Value("${metrics.scrape.password}")
+    private String scrapePassword;
+
+    @PostConstruct
+    void requireScrapePassword() {
+        if (!StringUtils.hasText(scrapePassword)) {
+            throw new IllegalStateException("metrics.scrape.password must be set (METRICS_SCRAPE_PASSWORD)");
+        }
+    }
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
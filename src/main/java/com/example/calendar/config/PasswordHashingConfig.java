@@ -0,0 +1,27 @@
+package com.example.calendar.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class PasswordHashingConfig {
+    @Value("${password.bcrypt.strength:10}")
+    private int strength;
+
+    @Value("${password.bcrypt.calibrate:false}")
+    private boolean calibrate;
+
+    @Value("${password.bcrypt.target-millis:100}")
+    private long targetMillis;
+
+    @Value("${password.hashing.pool-size:2}")
+    private int poolSize;
+
+    @Value("${password.hashing.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${password.hashing.retry-after:1}")
+    private long retryAfter;
+}
@@ -0,0 +1,58 @@
+package com.example.calendar.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 리액티브 조회(/api/reactive/todos)가 쓰는 R2DBC 커넥션 풀.
+ * 쓰기와 트랜잭션은 계속 JPA가 맡으므로 Spring Boot의 R2DBC 자동 설정은 꺼 두고 여기서만 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Value("${todo.reactive.url:r2dbc:postgresql://localhost:5432/calendar}")
+    private String url;
+
+    @Value("${todo.reactive.username:${spring.datasource.username}}")
+    private String username;
+
+    @Value("${todo.reactive.password:${spring.datasource.password}}")
+    private String password;
+
+    @Value("${todo.reactive.pool.initial-size:4}")
+    private int initialSize;
+
+    @Value("${todo.reactive.pool.max-size:20}")
+    private int maxSize;
+
+    @Value("${todo.reactive.pool.max-acquire-time:5000}")
+    private long maxAcquireTime;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionFactory() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(Duration.ofMillis(maxAcquireTime))
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionPool reactiveConnectionFactory) {
+        return DatabaseClient.create(reactiveConnectionFactory);
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.calendar.config;
 
+import com.example.calendar.util.BCryptStrengthCalibrator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -21,6 +26,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PasswordHashingConfig passwordHashingConfig;
 
     @Override
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
@@ -33,6 +39,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .csrf().disable()
             .authorizeRequests()
                 .antMatchers("/api/auth/**").permitAll()
+                .antMatchers(HttpMethod.GET, "/api/feed/*.ics").permitAll()
                 .antMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 .anyRequest().authenticated()
             .and()
@@ -48,8 +55,48 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         return super.authenticationManagerBean();
     }
 
+    /**
+     * Actuator 엔드포인트는 JWT 체인 밖에서 HTTP Basic으로 인증하고 METRICS 역할만 허용한다.
+     * 헬스 체크만 인증 없이 연다.
+     */
+    @Configuration
+    @Order(1)
+    @RequiredArgsConstructor
+    public static class ActuatorSecurityConfig extends WebSecurityConfigurerAdapter {
+
+        private final MetricsConfig metricsConfig;
+        private final PasswordEncoder passwordEncoder;
+
+        @Override
+        protected void configure(AuthenticationManagerBuilder auth) throws Exception {
+            auth.inMemoryAuthentication()
+                    .passwordEncoder(passwordEncoder)
+                    .withUser(metricsConfig.getScrapeUsername())
+                    .password(passwordEncoder.encode(metricsConfig.getScrapePassword()))
+                    .roles("METRICS");
+        }
+
+        @Override
+        protected void configure(HttpSecurity http) throws Exception {
+            http
+                .requestMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf().disable()
+                .authorizeRequests()
+                    .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                    .anyRequest().hasRole("METRICS")
+                .and()
+                .httpBasic()
+                .and()
+                .sessionManagement()
+                    .sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+        }
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = passwordHashingConfig.isCalibrate()
+                ? BCryptStrengthCalibrator.calibrate(passwordHashingConfig.getTargetMillis())
+                : passwordHashingConfig.getStrength();
+        return new BCryptPasswordEncoder(strength);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.example.calendar.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class TodoFeedConfig {
+    @Value("${todo.feed.uid-domain:calendar.example.com}")
+    private String uidDomain;
+
+    @Value("${todo.feed.cache.max-bytes:67108864}")
+    private long cacheMaxBytes;
+
+    @Value("${todo.feed.cache.max-feed-bytes:1048576}")
+    private int maxCachedFeedBytes;
+
+    @Value("${todo.feed.cache.ttl:3600}")
+    private long cacheTtl;
+
+    @Value("${todo.feed.cache.max-tokens:100000}")
+    private long maxCachedTokens;
+}
@@ -0,0 +1,15 @@
+package com.example.calendar.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class TodoImportConfig {
+    @Value("${todo.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${todo.import.max-line-length:65536}")
+    private int maxLineLength;
+}
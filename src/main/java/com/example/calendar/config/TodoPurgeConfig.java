@@ -0,0 +1,24 @@
+package com.example.calendar.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class TodoPurgeConfig {
+    @Value("${todo.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${todo.purge.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${todo.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${todo.purge.pause-millis:200}")
+    private long pauseMillis;
+
+    @Value("${todo.purge.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+}
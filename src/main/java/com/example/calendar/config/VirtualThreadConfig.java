@@ -0,0 +1,32 @@
+package com.example.calendar.config;
+
+import com.example.calendar.util.VirtualThreads;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 요청을 Tomcat 스레드 풀 대신 요청마다 새 가상 스레드에서 처리한다.
+ * 스레드 수가 더 이상 동시성을 제한하지 않으므로 DB 작업의 상한은 Hikari 커넥션 풀 크기가 정한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.tomcat.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    // Executor 빈으로 등록하면 Spring Boot의 기본 applicationTaskExecutor가 빠지므로 필드로만 둔다
+    private final ExecutorService requestExecutor = VirtualThreads.newPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        requestExecutor.shutdown();
+    }
+}
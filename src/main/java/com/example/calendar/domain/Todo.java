@@ -1,34 +1,46 @@
 package com.example.calendar.domain;
 
-import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.GenericGenerator;
 
-import java.time.LocalDate;
-import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import java.time.LocalDate;
+import java.util.UUID;
 
+/**
+ * 할 일. {@code createdAt}과 {@code updatedAt}은 epoch 밀리초이며 동기화 토큰과 ETag의 기준이 된다.
+ */
 @Entity
 @Table(name = "todos")
 @Getter
 @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class Todo {
+    // IDENTITY는 INSERT마다 키를 읽어 와야 해서 Hibernate가 배치를 끈다. 시퀀스에서 50개씩 미리 받아 INSERT를 묶는다.
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(
-        name = "UUID",
-        strategy = "org.hibernate.id.UUIDGenerator"
-    )
-    private UUID id;
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_id_pool_seq")
+    @SequenceGenerator(name = "todos_id_pool_seq", sequenceName = "todos_id_pool_seq", allocationSize = 50)
+    private Long id;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private UUID uuid = UUID.randomUUID();
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -47,12 +59,35 @@ public class Todo {
     @Column(name = "delete_flag")
     private boolean deleteFlag;
 
+    @Column(name = "created_at", updatable = false)
+    private Long createdAt;
+
     @Column(name = "updated_at")
     private Long updatedAt;
 
+    public void update(String title, String description, LocalDate dueDate, boolean completed) {
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.completed = completed;
+    }
+
+    public void softDelete() {
+        this.deleteFlag = true;
+    }
+
+    public void restore() {
+        this.deleteFlag = false;
+    }
+
     @PrePersist
+    protected void onCreate() {
+        this.createdAt = System.currentTimeMillis();
+        this.updatedAt = this.createdAt;
+    }
+
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = System.currentTimeMillis();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.example.calendar.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.MapsId;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+
+/**
+ * 시리즈의 특정 발생일에만 적용되는 완료 여부와 예외(취소). 행이 없는 발생일은 미완료로 본다.
+ */
+@Entity
+@Table(name = "todo_occurrence_overrides")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TodoOccurrenceOverride {
+    @EmbeddedId
+    private TodoOccurrenceId id;
+
+    @MapsId("seriesId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private TodoSeries series;
+
+    private boolean completed;
+
+    private boolean cancelled;
+
+    @Column(name = "updated_at")
+    private Long updatedAt;
+
+    public TodoOccurrenceOverride(TodoSeries series, TodoOccurrenceId id) {
+        this.series = series;
+        this.id = id;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = System.currentTimeMillis();
+    }
+}
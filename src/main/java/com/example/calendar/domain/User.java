@@ -1,13 +1,30 @@
 package com.example.calendar.domain;
 
-import jakarta.persistence.*;
+import com.example.calendar.store.UserCacheEvictionListener;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheEvictionListener.class)
 @Getter
 @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +50,9 @@ public class User {
     @Column(name = "updated_by")
     private String updatedBy;
 
+    @Column(name = "feed_token", unique = true, length = 64)
+    private String feedToken;
+
     @PrePersist
     @PreUpdate
     protected void onUpdate() {
@@ -8,4 +8,5 @@ import lombok.Getter;
 public class AuthResponse {
     private String token;
     private String email;
-} 
\ No newline at end of file
+    private String refreshToken;
+}
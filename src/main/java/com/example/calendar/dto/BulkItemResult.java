@@ -0,0 +1,27 @@
+package com.example.calendar.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 일괄 요청에서 요청 배열의 index번째 항목의 처리 결과.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+    private final int index;
+    private final Long id;
+    private final int status;
+    private final String message;
+
+    public static BulkItemResult success(int index, Long id, HttpStatus status) {
+        return new BulkItemResult(index, id, status.value(), null);
+    }
+
+    public static BulkItemResult failure(int index, Long id, HttpStatus status, String message) {
+        return new BulkItemResult(index, id, status.value(), message);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.calendar.dto;
+
+import com.example.calendar.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 동기화 상한선. (updatedAt, id) 순서로 마지막으로 내려간 변경을 가리킨다.
+ * {@code syncedAt}은 클라이언트가 빠짐없이 받았다고 볼 수 있는 시각으로, 페이지를 넘기는 동안에는
+ * 동기화를 시작한 시점에 머물고 마지막 페이지를 받으면 조회 상한까지 올라간다. 보존 기간 판단은 이 값으로 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeToken {
+    public static final ChangeToken INITIAL = new ChangeToken(0L, 0L, 0L);
+
+    private final Long updatedAt;
+    private final Long id;
+    private final Long syncedAt;
+
+    // syncedAt이 없던 이전 형식의 토큰은 위치를 그대로 동기화 시각으로 본다
+    public ChangeToken(Long updatedAt, Long id) {
+        this(updatedAt, id, updatedAt);
+    }
+
+    public static ChangeToken after(TodoChange change, long syncedAt) {
+        return new ChangeToken(change.getUpdatedAt(), change.getId(), syncedAt);
+    }
+
+    public String encode() {
+        String raw = updatedAt + "|" + id + "|" + syncedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return INITIAL;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length == 2) {
+                return new ChangeToken(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+            }
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            return new ChangeToken(Long.valueOf(parts[0]), Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid sync token");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class DailyTodoSummary {
+    private final LocalDate date;
+    private final long total;
+    private final long completed;
+    private final long overdue;
+}
@@ -0,0 +1,10 @@
+package com.example.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FeedResponse {
+    private String url;
+}
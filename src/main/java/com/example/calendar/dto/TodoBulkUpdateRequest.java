@@ -0,0 +1,15 @@
+package com.example.calendar.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TodoBulkUpdateRequest extends TodoRequest {
+    @NotNull(message = "Id is required")
+    private Long id;
+}
@@ -0,0 +1,33 @@
+package com.example.calendar.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoChange {
+    private final Long id;
+    private final UUID uuid;
+    private final String title;
+    private final String description;
+    private final LocalDate dueDate;
+    private final Boolean completed;
+    private final boolean deleted;
+    private final Long updatedAt;
+
+    public TodoChange(Long id, UUID uuid, String title, String description, LocalDate dueDate,
+                      boolean completed, boolean deleted, Long updatedAt) {
+        this.id = id;
+        this.uuid = uuid;
+        this.deleted = deleted;
+        this.updatedAt = updatedAt;
+        // 삭제된 할 일은 식별자만 담은 툼스톤으로 내려간다
+        this.title = deleted ? null : title;
+        this.description = deleted ? null : description;
+        this.dueDate = deleted ? null : dueDate;
+        this.completed = deleted ? null : completed;
+    }
+}
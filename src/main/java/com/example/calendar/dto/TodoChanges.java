@@ -0,0 +1,14 @@
+package com.example.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TodoChanges {
+    private final List<TodoChange> changes;
+    private final String nextToken;
+    private final boolean hasMore;
+}
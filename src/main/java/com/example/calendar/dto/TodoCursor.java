@@ -0,0 +1,46 @@
+package com.example.calendar.dto;
+
+import com.example.calendar.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (dueDate, id) 순서로 정렬된 목록에서 마지막으로 내려간 위치.
+ * 마감일이 없는 할 일은 마감일이 있는 할 일 뒤에 id 순으로 온다.
+ */
+@Getter
+@AllArgsConstructor
+public class TodoCursor {
+    private final LocalDate dueDate;
+    private final Long id;
+
+    public static TodoCursor after(TodoResponse todo) {
+        return new TodoCursor(todo.getDueDate(), todo.getId());
+    }
+
+    public String encode() {
+        String raw = (dueDate != null ? dueDate.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String dueDate = raw.substring(0, separator);
+            return new TodoCursor(
+                    dueDate.isEmpty() ? null : LocalDate.parse(dueDate),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
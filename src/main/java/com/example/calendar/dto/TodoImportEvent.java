@@ -0,0 +1,41 @@
+package com.example.calendar.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가져오기 진행 상황을 한 줄씩 내보내는 NDJSON 레코드.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoImportEvent {
+    public static final String ERROR = "error";
+    public static final String PROGRESS = "progress";
+    public static final String COMPLETED = "completed";
+    public static final String FAILED = "failed";
+
+    private final String type;
+    private final Integer index;
+    private final String uid;
+    private final String message;
+    private final Long imported;
+    private final Long rejected;
+
+    public static TodoImportEvent error(int index, String uid, String message) {
+        return new TodoImportEvent(ERROR, index, uid, message, null, null);
+    }
+
+    public static TodoImportEvent progress(long imported, long rejected) {
+        return new TodoImportEvent(PROGRESS, null, null, null, imported, rejected);
+    }
+
+    public static TodoImportEvent completed(long imported, long rejected) {
+        return new TodoImportEvent(COMPLETED, null, null, null, imported, rejected);
+    }
+
+    public static TodoImportEvent failed(String message, long imported, long rejected) {
+        return new TodoImportEvent(FAILED, null, null, message, imported, rejected);
+    }
+}
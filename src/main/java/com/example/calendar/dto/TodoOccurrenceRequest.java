@@ -0,0 +1,14 @@
+package com.example.calendar.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TodoOccurrenceRequest {
+    private boolean completed;
+    // true면 이 발생일을 시리즈에서 뺀다 (EXDATE)
+    private boolean cancelled;
+}
@@ -0,0 +1,18 @@
+package com.example.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 발생일 재정의 행의 조회 전용 투영. 전개할 때 시리즈 id와 날짜로 맞춰 본다.
+ */
+@Getter
+@AllArgsConstructor
+public class TodoOccurrenceState {
+    private final Long seriesId;
+    private final LocalDate occurrenceDate;
+    private final boolean completed;
+    private final boolean cancelled;
+}
@@ -1,11 +1,11 @@
 package com.example.calendar.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
@@ -18,6 +18,15 @@ public class TodoResponse {
     private String description;
     private LocalDate dueDate;
     private boolean completed;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
-} 
\ No newline at end of file
+    // epoch 밀리초. 델타 동기화의 updatedAt과 같은 값이다
+    private Long createdAt;
+    private Long updatedAt;
+    // 반복 시리즈에서 전개된 발생일이면 시리즈 id, 일반 할 일이면 생략된다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long seriesId;
+
+    public TodoResponse(Long id, UUID uuid, String title, String description, LocalDate dueDate,
+                        boolean completed, Long createdAt, Long updatedAt) {
+        this(id, uuid, title, description, dueDate, completed, createdAt, updatedAt, null);
+    }
+}
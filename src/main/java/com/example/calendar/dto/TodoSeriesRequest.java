@@ -0,0 +1,27 @@
+package com.example.calendar.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TodoSeriesRequest {
+    @NotBlank(message = "Title is required")
+    private String title;
+
+    private String description;
+
+    @NotBlank(message = "RRULE is required")
+    @Size(max = 500, message = "RRULE must be at most 500 characters")
+    private String rrule;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+}
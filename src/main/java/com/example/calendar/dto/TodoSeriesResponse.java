@@ -0,0 +1,19 @@
+package com.example.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TodoSeriesResponse {
+    private final Long id;
+    private final UUID uuid;
+    private final String title;
+    private final String description;
+    private final String rrule;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
@@ -0,0 +1,29 @@
+package com.example.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조회 범위의 행 수와 최대 updatedAt으로 만든 검증자. 본문을 읽지 않고 ETag/Last-Modified를 만든다.
+ */
+@Getter
+@AllArgsConstructor
+public class TodoVersion {
+    private final long count;
+    private final Long lastModified;
+
+    public String getETag() {
+        long modified = lastModified != null ? lastModified : 0L;
+        return "W/\"" + Long.toHexString(count) + "-" + Long.toHexString(modified) + "\"";
+    }
+
+    public TodoVersion combine(TodoVersion other) {
+        Long modified = lastModified == null ? other.lastModified
+                : other.lastModified == null ? lastModified : Math.max(lastModified, other.lastModified);
+        return new TodoVersion(count + other.count, modified);
+    }
+
+    public long getLastModifiedOrUnknown() {
+        return lastModified != null ? lastModified : -1L;
+    }
+}
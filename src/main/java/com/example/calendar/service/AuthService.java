@@ -1,52 +1,126 @@
 package com.example.calendar.service;
 
 import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
 import com.example.calendar.dto.AuthRequest;
 import com.example.calendar.dto.AuthResponse;
+import com.example.calendar.dto.RefreshRequest;
 import com.example.calendar.exception.DuplicateException;
+import com.example.calendar.exception.UnauthorizedException;
 import com.example.calendar.store.UserRepository;
 import com.example.calendar.util.JwtUtil;
+import com.example.calendar.util.TokenClaims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final AuthenticationManager authenticationManager;
     private final CustomUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserStatusCache userStatusCache;
+    // 해시 풀 밖에서 DB 작업을 이어 가는 Spring Boot 기본 작업 실행기
+    private final ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    public CompletableFuture<AuthResponse> authenticate(AuthRequest request) {
+        final UserDetails userDetails = findUser(request.getEmail());
+
+        if (userDetails == null) {
+            // 존재하지 않는 계정도 같은 비용을 치르게 해 응답 시간으로 계정 존재 여부가 드러나지 않게 한다.
+            return passwordHashingService.encode(request.getPassword())
+                    .thenApply(ignored -> {
+                        throw new UnauthorizedException("Invalid email or password");
+                    });
+        }
+
+        return passwordHashingService.matches(request.getPassword(), userDetails.getPassword())
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new UnauthorizedException("Invalid email or password");
+                    }
+                    return issueTokens(userDetails);
+                });
+    }
 
-    @Transactional
-    public AuthResponse authenticate(AuthRequest request) {
-        authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+    public AuthResponse refresh(RefreshRequest request) {
+        TokenClaims claims = parse(request.getRefreshToken());
 
-        final UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
-        final String jwt = jwtUtil.generateToken(userDetails);
+        if (claims == null || !claims.isRefreshToken() || claims.getUserId() == null
+                || !userStatusCache.isActive(claims.getUserId())) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+
+        // 리프레시 토큰은 한 번만 쓸 수 있다. 확인과 폐기를 한 번에 해서, 같은 토큰으로 동시에 들어온 요청 중
+        // 폐기에 성공한 하나만 새 토큰을 받는다.
+        if (!tokenRevocationList.revoke(claims.getTokenId(), claims.getExpiration().getTime())) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
 
-        return new AuthResponse(jwt, request.getEmail());
+        return issueTokens(new UserPrincipal(claims.getUserId(), claims.getSubject(), null, claims.getRoles()));
     }
 
-    @Transactional
-    public void register(AuthRequest request) {
+    public void logout(String accessToken, RefreshRequest request) {
+        revoke(accessToken);
+        revoke(request.getRefreshToken());
+    }
+
+    public CompletableFuture<Void> register(AuthRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateException("Email already exists");
         }
 
-        User user = User.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .build();
+        // 해시 풀 스레드는 BCrypt만 계산하고, 저장은 커넥션을 기다리느라 해시 풀을 붙잡지 않도록 다른 실행기에서 한다.
+        return passwordHashingService.encode(request.getPassword())
+                .thenAcceptAsync(encodedPassword -> {
+                    User user = User.builder()
+                            .email(request.getEmail())
+                            .password(encodedPassword)
+                            .build();
 
-        userRepository.save(user);
+                    userRepository.save(user);
+                }, applicationTaskExecutor);
+    }
+
+    private AuthResponse issueTokens(UserDetails userDetails) {
+        return new AuthResponse(
+                jwtUtil.generateToken(userDetails),
+                userDetails.getUsername(),
+                jwtUtil.generateRefreshToken(userDetails));
+    }
+
+    private void revoke(String token) {
+        TokenClaims claims = parse(token);
+        if (claims != null) {
+            tokenRevocationList.revoke(claims.getTokenId(), claims.getExpiration().getTime());
+        }
+    }
+
+    private TokenClaims parse(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            return jwtUtil.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private UserDetails findUser(String email) {
+        try {
+            return userDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
     }
-} 
\ No newline at end of file
+}
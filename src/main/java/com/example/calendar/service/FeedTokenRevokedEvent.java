@@ -0,0 +1,14 @@
+package com.example.calendar.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 토큰이 재발급되거나 사용자가 삭제되어 이전 토큰을 더 이상 받지 않게 되었음을 알린다.
+ * 커밋 후에 캐시에서 지워야 동시에 들어온 요청이 이전 매핑을 다시 캐시하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FeedTokenRevokedEvent {
+    private final String token;
+}
@@ -0,0 +1,109 @@
+package com.example.calendar.service;
+
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.util.SearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * H2 기반 테스트 프로필용 역색인 검색. 사용자별 색인을 첫 검색 때 만들고 그 사용자의 할 일이 바뀌면 버린다.
+ * 순위는 제목 토큰 2점, 설명 토큰 1점을 검색어마다 더한 값으로 PostgreSQL 구현의 가중치를 흉내 낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryTodoSearchEngine implements TodoSearchEngine {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final TodoRepository todoRepository;
+    private final ConcurrentMap<Long, UserIndex> indexes = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> search(Long userId, List<String> terms, int offset, int limit) {
+        UserIndex index = indexes.get(userId);
+        if (index == null) {
+            // 색인을 만드는 동안 들어온 무효화를 덮어쓰지 않도록 시작 시점의 세대를 확인한다
+            long generation = invalidations.get();
+            index = build(userId);
+            if (invalidations.get() == generation) {
+                indexes.put(userId, index);
+            }
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> termScores = index.match(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+        }
+        if (scores == null) {
+            return List.of();
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        invalidations.incrementAndGet();
+        indexes.remove(event.getUserId());
+    }
+
+    private UserIndex build(Long userId) {
+        UserIndex index = new UserIndex();
+        try (Stream<TodoResponse> todos = todoRepository.streamActiveResponsesByUserId(userId)) {
+            todos.forEach(todo -> {
+                index.add(todo.getId(), todo.getTitle(), TITLE_WEIGHT);
+                index.add(todo.getId(), todo.getDescription(), DESCRIPTION_WEIGHT);
+            });
+        }
+        return index;
+    }
+
+    private static class UserIndex {
+        // 토큰 -> (할 일 id -> 점수). 정렬된 맵이라 접두어 검색이 범위 조회 한 번이다.
+        private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+        void add(Long id, String text, int weight) {
+            for (String token : SearchTokenizer.tokenize(text)) {
+                postings.computeIfAbsent(token, key -> new HashMap<>()).merge(id, weight, Integer::sum);
+            }
+        }
+
+        Map<Long, Integer> match(String prefix) {
+            Map<Long, Integer> scores = new HashMap<>();
+            postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()
+                    .forEach(posting -> posting.forEach((id, score) -> scores.merge(id, score, Integer::sum)));
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.calendar.service;
+
+import com.example.calendar.store.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * V6의 {@code search_vector} GIN 인덱스를 쓰는 검색. 검색어마다 접두어 검색({@code :*})을 AND로 묶고
+ * 제목 가중치가 높은 {@code ts_rank}로 정렬한다.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresTodoSearchEngine implements TodoSearchEngine {
+
+    private final TodoRepository todoRepository;
+
+    @Override
+    public List<Long> search(Long userId, List<String> terms, int offset, int limit) {
+        // 토큰은 문자와 숫자만 담고 있어 tsquery 연산자와 섞일 수 없다
+        String query = terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return todoRepository.searchIds(userId, query, limit, offset).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+    }
+}
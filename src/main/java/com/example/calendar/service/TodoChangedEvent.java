@@ -0,0 +1,27 @@
+package com.example.calendar.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * 할 일 쓰기가 커밋된 뒤 영향을 받은 사용자와 월을 알린다. 마감일이 없는 할 일은 월이 비어 있다.
+ * 반복 시리즈처럼 범위를 특정할 수 없는 변경은 {@link #allMonths(Long)}로 사용자의 모든 월을 가리킨다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TodoChangedEvent {
+    private final Long userId;
+    private final Set<YearMonth> months;
+    private final boolean allMonths;
+
+    public TodoChangedEvent(Long userId, Set<YearMonth> months) {
+        this(userId, months, false);
+    }
+
+    public static TodoChangedEvent allMonths(Long userId) {
+        return new TodoChangedEvent(userId, Set.of(), true);
+    }
+}
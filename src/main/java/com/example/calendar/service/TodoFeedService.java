@@ -0,0 +1,223 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.TodoFeedConfig;
+import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoVersion;
+import com.example.calendar.exception.NotFoundException;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.UserRepository;
+import com.example.calendar.util.ICalendarWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.stream.Stream;
+
+/**
+ * 구독용 iCalendar 피드. 토큰과 렌더링된 본문을 메모리에 두어 변경이 없는 폴링은 DB를 거치지 않는다.
+ * 할 일이 바뀌면 {@link TodoChangedEvent}로 해당 사용자의 본문만 버린다.
+ */
+@Service
+public class TodoFeedService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TodoFeedConfig feedConfig;
+    private final ApplicationEventPublisher eventPublisher;
+    // 쓰기 시점부터 TTL을 재므로 계속 폴링해도 재발급·삭제를 놓친 매핑이 TTL 이상 남지 않는다
+    private final Cache<String, Long> userIdsByToken;
+    private final Cache<Long, RenderedFeed> feeds;
+    // 렌더링 도중 무효화된 본문을 캐시에 넣지 않기 위한 사용자별 마지막 무효화 시각
+    private final Cache<Long, Long> invalidatedAt;
+
+    public TodoFeedService(TodoRepository todoRepository, UserRepository userRepository, TodoFeedConfig feedConfig,
+                           ApplicationEventPublisher eventPublisher) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.feedConfig = feedConfig;
+        this.eventPublisher = eventPublisher;
+        Duration ttl = Duration.ofSeconds(feedConfig.getCacheTtl());
+        this.userIdsByToken = Caffeine.newBuilder()
+                .maximumSize(feedConfig.getMaxCachedTokens())
+                .expireAfterWrite(ttl)
+                .build();
+        this.feeds = Caffeine.newBuilder()
+                .maximumWeight(feedConfig.getCacheMaxBytes())
+                .weigher((Long userId, RenderedFeed feed) -> feed.getBody().length)
+                .expireAfterWrite(ttl)
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Transactional
+    public String rotateToken(UserDetails userDetails) {
+        User user = findManagedUser(userDetails);
+        if (user.getFeedToken() != null) {
+            eventPublisher.publishEvent(new FeedTokenRevokedEvent(user.getFeedToken()));
+        }
+        byte[] random = new byte[32];
+        RANDOM.nextBytes(random);
+        user.setFeedToken(Base64.getUrlEncoder().withoutPadding().encodeToString(random));
+        return user.getFeedToken();
+    }
+
+    public Long resolveUserId(String token) {
+        Long userId = userIdsByToken.get(token, key -> userRepository.findByFeedTokenAndDeleteFlagFalse(key)
+                .map(User::getId)
+                .orElse(null));
+        if (userId == null) {
+            throw new NotFoundException("Feed not found");
+        }
+        return userId;
+    }
+
+    public RenderedFeed getCached(Long userId) {
+        return feeds.getIfPresent(userId);
+    }
+
+    /**
+     * 피드 버전을 읽는다. 읽기 직전 시각을 함께 돌려주어, 버전을 읽은 뒤 커밋된 쓰기가 있으면
+     * {@link #render}가 새 본문을 이 버전의 ETag로 캐시하지 않게 한다.
+     */
+    @Transactional(readOnly = true)
+    public FeedVersion getVersion(Long userId) {
+        long readAt = System.nanoTime();
+        return new FeedVersion(todoRepository.findActiveVersionByUserId(userId), readAt);
+    }
+
+    /**
+     * 행을 읽는 대로 응답에 쓰고, 본문이 한도 이하이면 같은 바이트를 캐시에 남긴다.
+     */
+    @Transactional(readOnly = true)
+    public void render(Long userId, FeedVersion version, OutputStream out) throws IOException {
+        CapturingOutputStream capture = new CapturingOutputStream(out, feedConfig.getMaxCachedFeedBytes());
+        ICalendarWriter writer = new ICalendarWriter(
+                new BufferedWriter(new OutputStreamWriter(capture, StandardCharsets.UTF_8)), feedConfig.getUidDomain());
+
+        writer.begin("할 일");
+        try (Stream<TodoResponse> todos = todoRepository.streamActiveResponsesByUserId(userId)) {
+            todos.forEach(todo -> {
+                try {
+                    writer.write(todo);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        writer.end();
+
+        byte[] body = capture.captured();
+        Long invalidated = invalidatedAt.getIfPresent(userId);
+        if (body != null && (invalidated == null || invalidated < version.getReadAt())) {
+            TodoVersion todoVersion = version.getTodoVersion();
+            feeds.put(userId, new RenderedFeed(todoVersion.getETag(), todoVersion.getLastModifiedOrUnknown(), body));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedTokenRevoked(FeedTokenRevokedEvent event) {
+        userIdsByToken.invalidate(event.getToken());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        invalidatedAt.put(event.getUserId(), System.nanoTime());
+        feeds.invalidate(event.getUserId());
+    }
+
+    // 캐시된 findById/findByEmail은 요청 사이에 공유되는 객체를 돌려주므로, 고칠 사용자는 영속 상태로 다시 읽는다
+    private User findManagedUser(UserDetails userDetails) {
+        Long userId;
+        if (userDetails instanceof UserPrincipal && ((UserPrincipal) userDetails).getId() != null) {
+            userId = ((UserPrincipal) userDetails).getId();
+        } else {
+            userId = userRepository.findByEmail(userDetails.getUsername())
+                    .map(User::getId)
+                    .orElseThrow(() -> new NotFoundException("User not found"));
+        }
+        return userRepository.findByIdAndDeleteFlagFalse(userId)
+                .orElseThrow(() -> new NotFoundException("User not found"));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FeedVersion {
+        private final TodoVersion todoVersion;
+        // System.nanoTime() 기준으로 버전을 읽기 직전 시각
+        private final long readAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RenderedFeed {
+        private final String eTag;
+        private final long lastModified;
+        private final byte[] body;
+    }
+
+    private static class CapturingOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final int limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private CapturingOutputStream(OutputStream out, int limit) {
+            this.out = out;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (buffer != null) {
+                buffer.write(b);
+                dropIfOverLimit();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (buffer != null) {
+                buffer.write(b, off, len);
+                dropIfOverLimit();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        private void dropIfOverLimit() {
+            if (buffer.size() > limit) {
+                buffer = null;
+            }
+        }
+
+        private byte[] captured() {
+            return buffer != null ? buffer.toByteArray() : null;
+        }
+    }
+}
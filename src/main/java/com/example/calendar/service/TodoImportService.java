@@ -0,0 +1,208 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.TodoImportConfig;
+import com.example.calendar.domain.Todo;
+import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.TodoImportEvent;
+import com.example.calendar.dto.TodoRequest;
+import com.example.calendar.exception.NotFoundException;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.UserRepository;
+import com.example.calendar.util.ICalendarComponent;
+import com.example.calendar.util.ICalendarParseException;
+import com.example.calendar.util.ICalendarReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * .ics 스트림을 컴포넌트 단위로 읽어 고정 크기 배치마다 별도 트랜잭션으로 저장한다.
+ * 한 배치가 커밋되면 영속성 컨텍스트도 함께 비워지므로 파일 크기와 무관하게 메모리가 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoImportService {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoImportConfig importConfig;
+
+    public void importCalendar(UserDetails userDetails, InputStream input,
+                               Consumer<TodoImportEvent> listener) throws IOException {
+        Long userId = resolveUserId(userDetails);
+        Progress progress = new Progress();
+        List<PendingTodo> batch = new ArrayList<>(importConfig.getBatchSize());
+
+        try (ICalendarReader reader = new ICalendarReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)),
+                importConfig.getMaxLineLength())) {
+            ICalendarComponent component;
+            while ((component = reader.next()) != null) {
+                try {
+                    batch.add(new PendingTodo(component.getIndex(), component.value("UID"), toRequest(component)));
+                } catch (ICalendarParseException e) {
+                    progress.rejected++;
+                    listener.accept(TodoImportEvent.error(component.getIndex(), component.value("UID"),
+                            e.getMessage()));
+                }
+                if (batch.size() >= importConfig.getBatchSize()) {
+                    saveBatch(userId, batch, progress, listener);
+                }
+            }
+            saveBatch(userId, batch, progress, listener);
+            listener.accept(TodoImportEvent.completed(progress.imported, progress.rejected));
+        } catch (ICalendarParseException e) {
+            // 깨진 줄 앞까지 읽은 항목은 저장하고 중단한다
+            saveBatch(userId, batch, progress, listener);
+            listener.accept(TodoImportEvent.failed(e.getMessage(), progress.imported, progress.rejected));
+        }
+    }
+
+    private void saveBatch(Long userId, List<PendingTodo> batch, Progress progress,
+                           Consumer<TodoImportEvent> listener) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            insert(userId, batch);
+            progress.imported += batch.size();
+        } catch (DataAccessException e) {
+            // 어느 항목 때문인지 모르므로 배치를 롤백한 뒤 한 건씩 다시 저장해 실패한 항목만 거절한다
+            for (PendingTodo pending : batch) {
+                try {
+                    insert(userId, List.of(pending));
+                    progress.imported++;
+                } catch (DataAccessException itemFailure) {
+                    progress.rejected++;
+                    listener.accept(TodoImportEvent.error(pending.index, pending.uid, "Could not be saved"));
+                }
+            }
+        }
+        batch.clear();
+        listener.accept(TodoImportEvent.progress(progress.imported, progress.rejected));
+    }
+
+    private void insert(Long userId, List<PendingTodo> todos) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.getReferenceById(userId);
+            Set<YearMonth> months = new HashSet<>();
+            for (PendingTodo pending : todos) {
+                TodoRequest request = pending.request;
+                todoRepository.save(Todo.builder()
+                        .user(user)
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .dueDate(request.getDueDate())
+                        .completed(request.isCompleted())
+                        .build());
+                if (request.getDueDate() != null) {
+                    months.add(YearMonth.from(request.getDueDate()));
+                }
+            }
+            eventPublisher.publishEvent(new TodoChangedEvent(userId, months));
+        });
+    }
+
+    private TodoRequest toRequest(ICalendarComponent component) {
+        String title = unescape(component.value("SUMMARY"));
+        if (title == null || title.isBlank()) {
+            throw new ICalendarParseException("SUMMARY is required");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new ICalendarParseException("SUMMARY is longer than " + MAX_TITLE_LENGTH + " characters");
+        }
+
+        ICalendarComponent.Property due = "VTODO".equals(component.getName()) && component.property("DUE") != null
+                ? component.property("DUE")
+                : component.property("DTSTART");
+
+        TodoRequest request = new TodoRequest();
+        request.setTitle(title);
+        request.setDescription(unescape(component.value("DESCRIPTION")));
+        request.setDueDate(parseDate(due));
+        request.setCompleted("COMPLETED".equalsIgnoreCase(component.value("STATUS"))
+                || component.property("COMPLETED") != null
+                || "100".equals(component.value("PERCENT-COMPLETE")));
+        return request;
+    }
+
+    private LocalDate parseDate(ICalendarComponent.Property property) {
+        if (property == null || property.getValue().isBlank()) {
+            return null;
+        }
+        // DATE와 DATE-TIME 모두 앞 8자리 날짜만 쓴다
+        String value = property.getValue().trim();
+        try {
+            return LocalDate.parse(value.substring(0, Math.min(8, value.length())), BASIC_DATE);
+        } catch (DateTimeParseException e) {
+            throw new ICalendarParseException("Invalid date " + value);
+        }
+    }
+
+    private String unescape(String value) {
+        if (value == null || value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                unescaped.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private Long resolveUserId(UserDetails userDetails) {
+        if (userDetails instanceof UserPrincipal && ((UserPrincipal) userDetails).getId() != null) {
+            return ((UserPrincipal) userDetails).getId();
+        }
+        return userRepository.findByEmail(userDetails.getUsername())
+                .map(User::getId)
+                .orElseThrow(() -> new NotFoundException("User not found"));
+    }
+
+    private static class Progress {
+        private long imported;
+        private long rejected;
+    }
+
+    private static class PendingTodo {
+        private final int index;
+        private final String uid;
+        private final TodoRequest request;
+
+        private PendingTodo(int index, String uid, TodoRequest request) {
+            this.index = index;
+            this.uid = uid;
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.TodoPurgeConfig;
+import com.example.calendar.store.TodoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 보존 기간이 지난 소프트 삭제 할 일을 영구 삭제한다. id 순 키셋으로 작은 배치를 찾고 배치마다 짧은 트랜잭션으로
+ * 지운 뒤 잠시 쉬므로, 긴 잠금이나 복제 지연 없이 조금씩 진행된다. 한 번의 실행은 배치 수로 제한되고
+ * 남은 행은 다음 실행이 이어서 지운다.
+ */
+@Service
+public class TodoPurgeService {
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoPurgeConfig purgeConfig;
+    private final Counter purged;
+
+    public TodoPurgeService(TodoRepository todoRepository, TransactionTemplate transactionTemplate,
+                            TodoPurgeConfig purgeConfig, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.purgeConfig = purgeConfig;
+        this.purged = Counter.builder("todo.purge.deleted")
+                .description("Soft-deleted todos permanently removed by the purge job")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.purge.interval:3600000}",
+            initialDelayString = "${todo.purge.interval:3600000}")
+    public void purgeScheduled() {
+        if (purgeConfig.isEnabled()) {
+            purge();
+        }
+    }
+
+    public long purge() {
+        long deletedBefore = System.currentTimeMillis() - Duration.ofDays(purgeConfig.getRetentionDays()).toMillis();
+        int batchSize = purgeConfig.getBatchSize();
+        long afterId = 0L;
+        long total = 0L;
+
+        for (int batch = 0; batch < purgeConfig.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids = todoRepository.findPurgeableIds(deletedBefore, afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer deleted = transactionTemplate.execute(status -> todoRepository.deletePurgeable(ids, deletedBefore));
+            total += deleted != null ? deleted : 0;
+            purged.increment(deleted != null ? deleted : 0);
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 이 시각보다 오래된 삭제는 이미 영구 삭제되었을 수 있다. 정리가 꺼져 있으면 0이다.
+     */
+    public long getHorizonMillis() {
+        if (!purgeConfig.isEnabled()) {
+            return 0L;
+        }
+        return System.currentTimeMillis() - Duration.ofDays(purgeConfig.getRetentionDays()).toMillis();
+    }
+
+    private boolean pause() {
+        if (purgeConfig.getPauseMillis() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(purgeConfig.getPauseMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.calendar.service;
+
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.TodoCursor;
+import com.example.calendar.dto.TodoPage;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoSeriesResponse;
+import com.example.calendar.exception.NotFoundException;
+import com.example.calendar.store.TodoReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link TodoService}의 목록·일별·월별 조회를 R2DBC로 수행한다. 요청 스레드는 쿼리를 기다리지 않고 반환되며
+ * 결과는 같은 {@link TodoResponse} 목록, 같은 커서, 같은 월 캐시를 쓴다. 쓰기는 모두 {@link TodoService}에 남는다.
+ */
+@Service
+@ConditionalOnProperty(name = "todo.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TodoReactiveService {
+
+    private final TodoReactiveRepository todoReactiveRepository;
+    private final TodoSeriesService todoSeriesService;
+    private final TodoViewCache todoViewCache;
+
+    public Mono<TodoPage> getTodos(UserDetails userDetails, String cursor, Integer size) {
+        TodoCursor after = TodoCursor.decode(cursor);
+        int pageSize = TodoService.pageSize(size);
+
+        return resolveUserId(userDetails).flatMap(userId -> {
+            Flux<TodoResponse> dated;
+            if (after == null) {
+                dated = todoReactiveRepository.findDatedPage(userId, pageSize + 1);
+            } else if (after.getDueDate() != null) {
+                dated = todoReactiveRepository.findDatedPageAfter(userId, after.getDueDate(), after.getId(),
+                        pageSize + 1);
+            } else {
+                dated = Flux.empty();
+            }
+            return dated.collectList().flatMap(todos -> {
+                if (todos.size() > pageSize) {
+                    return Mono.just(TodoService.toPage(todos, pageSize));
+                }
+                return todoReactiveRepository.findUndatedPageAfter(userId, TodoService.undatedAfterId(after),
+                                pageSize + 1 - todos.size())
+                        .collectList()
+                        .map(undated -> {
+                            List<TodoResponse> page = new ArrayList<>(todos);
+                            page.addAll(undated);
+                            return TodoService.toPage(page, pageSize);
+                        });
+            });
+        });
+    }
+
+    public Mono<List<TodoResponse>> getTodosByDate(UserDetails userDetails, LocalDate date) {
+        return getTodosByMonth(userDetails, YearMonth.from(date))
+                .map(todos -> todos.stream()
+                        .filter(todo -> date.equals(todo.getDueDate()))
+                        .collect(Collectors.toList()));
+    }
+
+    public Mono<List<TodoResponse>> getTodosByMonth(UserDetails userDetails, YearMonth yearMonth) {
+        return resolveUserId(userDetails).flatMap(userId -> findMonth(userId, yearMonth));
+    }
+
+    private Mono<List<TodoResponse>> findMonth(Long userId, YearMonth yearMonth) {
+        List<TodoResponse> cached = todoViewCache.peekMonth(userId, yearMonth);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        // 읽는 도중 쓰기가 커밋되면 캐시에 넣지 않도록 읽기 전에 세대를 잡아 둔다
+        long generation = todoViewCache.generation(userId);
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+        Mono<List<TodoResponse>> todos = todoReactiveRepository
+                .findResponsesByUserIdAndDueDateBetween(userId, start, end)
+                .collectList();
+        Mono<List<TodoResponse>> occurrences = todoReactiveRepository.findActiveSeriesInWindow(userId, start, end)
+                .collectList()
+                .flatMap(seriesList -> seriesList.isEmpty()
+                        ? Mono.just(List.<TodoResponse>of())
+                        : todoReactiveRepository.findOccurrenceStates(seriesList.stream()
+                                        .map(TodoSeriesResponse::getId)
+                                        .collect(Collectors.toList()), start, end)
+                                .collectList()
+                                .map(states -> todoSeriesService.expand(seriesList, states, start, end)));
+
+        return Mono.zip(todos, occurrences)
+                .map(month -> TodoSeriesService.merge(month.getT1(), month.getT2()))
+                .doOnNext(month -> todoViewCache.putMonth(userId, yearMonth, month, generation));
+    }
+
+    private Mono<Long> resolveUserId(UserDetails userDetails) {
+        if (userDetails instanceof UserPrincipal && ((UserPrincipal) userDetails).getId() != null) {
+            return Mono.just(((UserPrincipal) userDetails).getId());
+        }
+        return todoReactiveRepository.findUserIdByEmail(userDetails.getUsername())
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("User not found")));
+    }
+}
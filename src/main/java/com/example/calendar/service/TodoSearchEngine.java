@@ -0,0 +1,16 @@
+package com.example.calendar.service;
+
+import java.util.List;
+
+/**
+ * 할 일 제목과 설명에 대한 전문 검색. 모든 검색어가 (접두어로) 들어 있는 삭제되지 않은 할 일을
+ * 관련도 내림차순, id 오름차순으로 돌려준다. 구현은 {@code todo.search.engine}으로 고른다.
+ */
+public interface TodoSearchEngine {
+
+    /**
+     * @param terms  {@link com.example.calendar.util.SearchTokenizer}로 자른 검색어
+     * @return 순위대로 정렬된 할 일 id
+     */
+    List<Long> search(Long userId, List<String> terms, int offset, int limit);
+}
@@ -0,0 +1,236 @@
+package com.example.calendar.service;
+
+import com.example.calendar.domain.TodoOccurrenceId;
+import com.example.calendar.domain.TodoOccurrenceOverride;
+import com.example.calendar.domain.TodoSeries;
+import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.TodoOccurrenceRequest;
+import com.example.calendar.dto.TodoOccurrenceState;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoSeriesRequest;
+import com.example.calendar.dto.TodoSeriesResponse;
+import com.example.calendar.dto.TodoVersion;
+import com.example.calendar.exception.BadRequestException;
+import com.example.calendar.exception.NotFoundException;
+import com.example.calendar.store.TodoOccurrenceOverrideRepository;
+import com.example.calendar.store.TodoSeriesRepository;
+import com.example.calendar.store.UserRepository;
+import com.example.calendar.util.RecurrenceRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 할 일 시리즈. 발생일은 저장하지 않고 조회 구간 안에서만 {@link RecurrenceRule}로 전개한다.
+ * 시리즈 쓰기는 어느 월에 걸칠지 알 수 없으므로 사용자의 월 캐시 전체를 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoSeriesService {
+
+    private final TodoSeriesRepository seriesRepository;
+    private final TodoOccurrenceOverrideRepository overrideRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public TodoSeriesResponse createSeries(UserDetails userDetails, TodoSeriesRequest request) {
+        User user = resolveUser(userDetails);
+
+        TodoSeries series = TodoSeries.builder()
+                .user(user)
+                .build();
+        apply(series, request);
+
+        series = seriesRepository.save(series);
+        eventPublisher.publishEvent(TodoChangedEvent.allMonths(user.getId()));
+        return convertToResponse(series);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TodoSeriesResponse> getSeries(UserDetails userDetails) {
+        User user = resolveUser(userDetails);
+        return seriesRepository.findActiveByUserId(user.getId());
+    }
+
+    @Transactional
+    public TodoSeriesResponse updateSeries(UserDetails userDetails, Long id, TodoSeriesRequest request) {
+        User user = resolveUser(userDetails);
+
+        TodoSeries series = findOwnedSeries(user, id);
+        apply(series, request);
+
+        series = seriesRepository.save(series);
+        eventPublisher.publishEvent(TodoChangedEvent.allMonths(user.getId()));
+        return convertToResponse(series);
+    }
+
+    @Transactional
+    public void deleteSeries(UserDetails userDetails, Long id) {
+        User user = resolveUser(userDetails);
+
+        TodoSeries series = findOwnedSeries(user, id);
+        series.setDeleteFlag(true);
+
+        seriesRepository.save(series);
+        eventPublisher.publishEvent(TodoChangedEvent.allMonths(user.getId()));
+    }
+
+    @Transactional
+    public TodoResponse updateOccurrence(UserDetails userDetails, Long id, LocalDate date,
+                                         TodoOccurrenceRequest request) {
+        User user = resolveUser(userDetails);
+
+        TodoSeries series = findOwnedSeries(user, id);
+        if (!occursOn(series, date)) {
+            throw new NotFoundException("Occurrence not found");
+        }
+
+        TodoOccurrenceId key = new TodoOccurrenceId(series.getId(), date);
+        TodoOccurrenceOverride override = overrideRepository.findById(key)
+                .orElseGet(() -> new TodoOccurrenceOverride(series, key));
+        override.setCompleted(request.isCompleted());
+        override.setCancelled(request.isCancelled());
+
+        overrideRepository.save(override);
+        eventPublisher.publishEvent(new TodoChangedEvent(user.getId(), Set.of(YearMonth.from(date))));
+        return toOccurrence(convertToResponse(series), date, request.isCompleted());
+    }
+
+    /**
+     * [{@code from}, {@code to}] 구간에 걸친 시리즈만 읽어 발생일을 전개한다. 취소된 발생일은 빠지고
+     * 완료 여부는 재정의 행을 따른다. 결과는 발생일, 시리즈 id 순이다.
+     */
+    @Transactional(readOnly = true)
+    public List<TodoResponse> expand(Long userId, LocalDate from, LocalDate to) {
+        List<TodoSeriesResponse> seriesList = seriesRepository.findActiveInWindow(userId, from, to);
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+        return expand(seriesList, overrideRepository.findStates(
+                seriesList.stream().map(TodoSeriesResponse::getId).collect(Collectors.toList()), from, to), from, to);
+    }
+
+    /**
+     * 이미 읽어 둔 시리즈와 재정의 행으로 발생일을 전개한다. DB에 접근하지 않으므로 리액티브 조회에서도 쓴다.
+     */
+    public List<TodoResponse> expand(List<TodoSeriesResponse> seriesList, List<TodoOccurrenceState> overrides,
+                                     LocalDate from, LocalDate to) {
+        Map<Long, Map<LocalDate, TodoOccurrenceState>> states = overrides.stream()
+                .collect(Collectors.groupingBy(TodoOccurrenceState::getSeriesId,
+                        Collectors.toMap(TodoOccurrenceState::getOccurrenceDate, state -> state)));
+
+        List<TodoResponse> occurrences = new ArrayList<>();
+        for (TodoSeriesResponse series : seriesList) {
+            RecurrenceRule rule = RecurrenceRule.parse(series.getRrule());
+            Map<LocalDate, TodoOccurrenceState> seriesStates = states.getOrDefault(series.getId(), Map.of());
+            rule.expand(series.getStartDate(), series.getEndDate(), from, to, epochDay -> {
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                TodoOccurrenceState state = seriesStates.get(date);
+                if (state == null || !state.isCancelled()) {
+                    occurrences.add(toOccurrence(series, date, state != null && state.isCompleted()));
+                }
+                return true;
+            });
+        }
+        // 시리즈별로는 이미 날짜순이므로 안정 정렬로 (날짜, 시리즈 id) 순서를 맞춘다
+        occurrences.sort((a, b) -> a.getDueDate().compareTo(b.getDueDate()));
+        return occurrences;
+    }
+
+    /**
+     * 마감일순인 일반 할 일과 발생일 목록을 병합한다. 같은 날에는 일반 할 일을 먼저 둔다.
+     */
+    public static List<TodoResponse> merge(List<TodoResponse> todos, List<TodoResponse> occurrences) {
+        if (occurrences.isEmpty()) {
+            return todos;
+        }
+        List<TodoResponse> merged = new ArrayList<>(todos.size() + occurrences.size());
+        int i = 0;
+        int j = 0;
+        while (i < todos.size() || j < occurrences.size()) {
+            if (j == occurrences.size() || (i < todos.size()
+                    && !todos.get(i).getDueDate().isAfter(occurrences.get(j).getDueDate()))) {
+                merged.add(todos.get(i++));
+            } else {
+                merged.add(occurrences.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    @Transactional(readOnly = true)
+    public TodoVersion getVersion(Long userId, LocalDate from, LocalDate to) {
+        return seriesRepository.findVersionInWindow(userId, from, to)
+                .combine(overrideRepository.findVersionInWindow(userId, from, to));
+    }
+
+    private void apply(TodoSeries series, TodoSeriesRequest request) {
+        RecurrenceRule rule;
+        try {
+            rule = RecurrenceRule.parse(request.getRrule());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid RRULE: " + e.getMessage());
+        }
+        LocalDate endDate = rule.lastOccurrence(request.getStartDate());
+        if (endDate != null && endDate.isBefore(request.getStartDate())) {
+            throw new BadRequestException("UNTIL must not be before the start date");
+        }
+
+        series.setTitle(request.getTitle());
+        series.setDescription(request.getDescription());
+        series.setRrule(request.getRrule().trim());
+        series.setStartDate(request.getStartDate());
+        series.setEndDate(endDate);
+    }
+
+    private boolean occursOn(TodoSeries series, LocalDate date) {
+        boolean[] found = {false};
+        RecurrenceRule.parse(series.getRrule()).expand(series.getStartDate(), series.getEndDate(), date, date,
+                epochDay -> {
+                    found[0] = true;
+                    return false;
+                });
+        return found[0];
+    }
+
+    private TodoResponse toOccurrence(TodoSeriesResponse series, LocalDate date, boolean completed) {
+        return TodoResponse.builder()
+                .uuid(series.getUuid())
+                .seriesId(series.getId())
+                .title(series.getTitle())
+                .description(series.getDescription())
+                .dueDate(date)
+                .completed(completed)
+                .build();
+    }
+
+    private TodoSeriesResponse convertToResponse(TodoSeries series) {
+        return new TodoSeriesResponse(series.getId(), series.getUuid(), series.getTitle(),
+                series.getDescription(), series.getRrule(), series.getStartDate(), series.getEndDate());
+    }
+
+    private User resolveUser(UserDetails userDetails) {
+        if (userDetails instanceof UserPrincipal && ((UserPrincipal) userDetails).getId() != null) {
+            return userRepository.getReferenceById(((UserPrincipal) userDetails).getId());
+        }
+        return userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new NotFoundException("User not found"));
+    }
+
+    private TodoSeries findOwnedSeries(User user, Long id) {
+        return seriesRepository.findByIdAndUserIdAndDeleteFlagFalse(id, user.getId())
+                .orElseThrow(() -> new NotFoundException("Series not found"));
+    }
+}
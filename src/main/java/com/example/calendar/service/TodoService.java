@@ -2,34 +2,80 @@ package com.example.calendar.service;
 
 import com.example.calendar.domain.Todo;
 import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.BulkItemResult;
+import com.example.calendar.dto.ChangeToken;
+import com.example.calendar.dto.DailyTodoSummary;
+import com.example.calendar.dto.TodoBulkUpdateRequest;
+import com.example.calendar.dto.TodoChange;
+import com.example.calendar.dto.TodoChanges;
+import com.example.calendar.dto.TodoCursor;
+import com.example.calendar.dto.TodoPage;
 import com.example.calendar.dto.TodoRequest;
 import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoSearchCursor;
+import com.example.calendar.dto.TodoVersion;
+import com.example.calendar.exception.BadRequestException;
+import com.example.calendar.exception.GoneException;
 import com.example.calendar.exception.NotFoundException;
-import com.example.calendar.exception.UnauthorizedException;
 import com.example.calendar.store.TodoRepository;
 import com.example.calendar.store.UserRepository;
+import com.example.calendar.util.SearchTokenizer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
+    // updatedAt은 커밋 시각이 아니므로 늦게 커밋된 변경을 놓치지 않도록 최근 구간은 다음 동기화로 미룬다
+    static final long SYNC_COMMIT_LAG_MILLIS = 5_000;
+    static final int MAX_BULK_SIZE = 500;
+    static final int DEFAULT_SEARCH_SIZE = 20;
+    static final int MAX_SEARCH_SIZE = 100;
+    static final int MAX_SEARCH_TERMS = 8;
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final TodoViewCache todoViewCache;
+    private final TodoSeriesService todoSeriesService;
+    private final TodoSearchEngine todoSearchEngine;
+    private final TodoPurgeService todoPurgeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Transactional
     public TodoResponse createTodo(UserDetails userDetails, TodoRequest request) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
+        User user = resolveUser(userDetails);
 
         Todo todo = Todo.builder()
                 .user(user)
@@ -40,116 +86,437 @@ public class TodoService {
                 .build();
 
         todo = todoRepository.save(todo);
+        publishChange(user, todo.getDueDate());
         return convertToResponse(todo);
     }
 
+    @Transactional
+    public List<BulkItemResult> createTodos(UserDetails userDetails, List<TodoRequest> requests) {
+        checkBulkSize(requests);
+        User user = resolveUser(userDetails);
+
+        List<BulkItemResult> results = new ArrayList<>(requests.size());
+        List<LocalDate> dueDates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TodoRequest request = requests.get(i);
+            String violation = firstViolation(request);
+            if (violation != null) {
+                results.add(BulkItemResult.failure(i, null, HttpStatus.BAD_REQUEST, violation));
+                continue;
+            }
+            // id는 풀링된 시퀀스에서 받으므로 INSERT는 커밋 시 hibernate.jdbc.batch_size 단위로 묶여 나간다
+            Todo todo = todoRepository.save(Todo.builder()
+                    .user(user)
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .dueDate(request.getDueDate())
+                    .completed(request.isCompleted())
+                    .build());
+            dueDates.add(todo.getDueDate());
+            results.add(BulkItemResult.success(i, todo.getId(), HttpStatus.CREATED));
+        }
+
+        publishChange(user, dueDates.toArray(new LocalDate[0]));
+        return results;
+    }
+
+    @Transactional
+    public List<BulkItemResult> updateTodos(UserDetails userDetails, List<TodoBulkUpdateRequest> requests) {
+        checkBulkSize(requests);
+        User user = resolveUser(userDetails);
+        Map<Long, Todo> owned = findOwnedTodos(user, requests.stream()
+                .map(TodoBulkUpdateRequest::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<BulkItemResult> results = new ArrayList<>(requests.size());
+        List<LocalDate> dueDates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TodoBulkUpdateRequest request = requests.get(i);
+            String violation = firstViolation(request);
+            if (violation != null) {
+                results.add(BulkItemResult.failure(i, request.getId(), HttpStatus.BAD_REQUEST, violation));
+                continue;
+            }
+            Todo todo = owned.get(request.getId());
+            if (todo == null || todo.isDeleteFlag()) {
+                results.add(BulkItemResult.failure(i, request.getId(), HttpStatus.NOT_FOUND, "Todo not found"));
+                continue;
+            }
+            dueDates.add(todo.getDueDate());
+            todo.update(request.getTitle(), request.getDescription(), request.getDueDate(), request.isCompleted());
+            dueDates.add(todo.getDueDate());
+            results.add(BulkItemResult.success(i, todo.getId(), HttpStatus.OK));
+        }
+
+        publishChange(user, dueDates.toArray(new LocalDate[0]));
+        return results;
+    }
+
+    @Transactional
+    public List<BulkItemResult> deleteTodos(UserDetails userDetails, List<Long> ids) {
+        return applyToOwnedTodos(userDetails, ids, Todo::softDelete);
+    }
+
+    @Transactional
+    public List<BulkItemResult> restoreTodos(UserDetails userDetails, List<Long> ids) {
+        return applyToOwnedTodos(userDetails, ids, Todo::restore);
+    }
+
     @Transactional(readOnly = true)
-    public List<TodoResponse> getTodos(UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
+    public TodoPage getTodos(UserDetails userDetails, String cursor, Integer size) {
+        User user = resolveUser(userDetails);
+        TodoCursor after = TodoCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<TodoResponse> todos = new ArrayList<>();
+        if (after == null) {
+            todos.addAll(todoRepository.findDatedPage(user.getId(), limit));
+        } else if (after.getDueDate() != null) {
+            todos.addAll(todoRepository.findDatedPageAfter(user.getId(), after.getDueDate(), after.getId(), limit));
+        }
+        if (todos.size() <= pageSize) {
+            todos.addAll(todoRepository.findUndatedPageAfter(user.getId(), undatedAfterId(after),
+                    PageRequest.of(0, pageSize + 1 - todos.size())));
+        }
 
-        return todoRepository.findByUser(user).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toPage(todos, pageSize);
     }
 
     @Transactional(readOnly = true)
     public TodoResponse getTodo(UserDetails userDetails, Long id) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
-
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Todo not found"));
+        User user = resolveUser(userDetails);
 
-        if (!todo.getUser().equals(user)) {
-            throw new UnauthorizedException("Unauthorized access to todo");
-        }
+        Todo todo = findOwnedTodo(user, id);
 
         return convertToResponse(todo);
     }
 
     @Transactional
     public TodoResponse updateTodo(UserDetails userDetails, Long id, TodoRequest request) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
+        User user = resolveUser(userDetails);
 
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Todo not found"));
-
-        if (!todo.getUser().equals(user)) {
-            throw new UnauthorizedException("Unauthorized access to todo");
-        }
+        Todo todo = findOwnedLiveTodo(user, id);
+        LocalDate previousDueDate = todo.getDueDate();
 
         todo.update(request.getTitle(), request.getDescription(), request.getDueDate(), request.isCompleted());
+        publishChange(user, previousDueDate, todo.getDueDate());
         return convertToResponse(todo);
     }
 
     @Transactional
     public void deleteTodo(UserDetails userDetails, Long id) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
-
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Todo not found"));
+        User user = resolveUser(userDetails);
 
-        if (!todo.getUser().equals(user)) {
-            throw new UnauthorizedException("Unauthorized access to todo");
+        Todo todo = findOwnedTodo(user, id);
+        if (todo.isDeleteFlag()) {
+            return;
         }
 
         todo.softDelete();
         todoRepository.save(todo);
+        publishChange(user, todo.getDueDate());
     }
 
     @Transactional
     public void restoreTodo(UserDetails userDetails, Long id) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
-
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Todo not found"));
+        User user = resolveUser(userDetails);
 
-        if (!todo.getUser().equals(user)) {
-            throw new UnauthorizedException("Unauthorized access to todo");
-        }
+        Todo todo = findOwnedTodo(user, id);
 
         todo.restore();
         todoRepository.save(todo);
+        publishChange(user, todo.getDueDate());
     }
 
     @Transactional(readOnly = true)
-    public List<TodoResponse> getDeletedTodos(UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
+    public TodoPage getDeletedTodos(UserDetails userDetails, String cursor, Integer size) {
+        User user = resolveUser(userDetails);
+        TodoCursor after = TodoCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<TodoResponse> todos = new ArrayList<>();
+        if (after == null) {
+            todos.addAll(todoRepository.findDeletedDatedPage(user.getId(), limit));
+        } else if (after.getDueDate() != null) {
+            todos.addAll(todoRepository.findDeletedDatedPageAfter(
+                    user.getId(), after.getDueDate(), after.getId(), limit));
+        }
+        if (todos.size() <= pageSize) {
+            todos.addAll(todoRepository.findDeletedUndatedPageAfter(user.getId(), undatedAfterId(after),
+                    PageRequest.of(0, pageSize + 1 - todos.size())));
+        }
 
-        return todoRepository.findByUserAndDeleteFlagTrue(user).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toPage(todos, pageSize);
     }
 
     @Transactional(readOnly = true)
     public List<TodoResponse> getTodosByDate(UserDetails userDetails, LocalDate date) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
+        User user = resolveUser(userDetails);
 
-        return todoRepository.findByUserAndDueDate(user, date).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return todoViewCache.getDate(user.getId(), date, () -> findMonth(user, YearMonth.from(date)));
     }
 
     @Transactional(readOnly = true)
     public List<TodoResponse> getTodosByMonth(UserDetails userDetails, YearMonth yearMonth) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException("User not found"));
+        User user = resolveUser(userDetails);
+
+        return todoViewCache.getMonth(user.getId(), yearMonth, () -> findMonth(user, yearMonth));
+    }
+
+    @Transactional(readOnly = true)
+    public TodoPage searchTodos(UserDetails userDetails, String query, String cursor, Integer size) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty() || terms.size() > MAX_SEARCH_TERMS) {
+            throw new BadRequestException("Search query must contain between 1 and " + MAX_SEARCH_TERMS + " words");
+        }
+        User user = resolveUser(userDetails);
+        int offset = TodoSearchCursor.decodeOffset(cursor);
+        int pageSize = size == null || size < 1 ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+
+        List<Long> ids = todoSearchEngine.search(user.getId(), terms, offset, pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        if (pageIds.isEmpty()) {
+            return new TodoPage(List.of(), null);
+        }
+
+        // 순위는 검색 엔진이 정했으므로 id 순서대로 다시 맞춘다
+        Map<Long, TodoResponse> found = todoRepository.findResponsesByUserIdAndIdIn(user.getId(), pageIds).stream()
+                .collect(Collectors.toMap(TodoResponse::getId, Function.identity()));
+        List<TodoResponse> items = pageIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new TodoPage(items, hasNext ? new TodoSearchCursor(offset + pageSize).encode() : null);
+    }
+
+    @Transactional(readOnly = true)
+    public TodoChanges getChanges(UserDetails userDetails, String since, Integer size) {
+        User user = resolveUser(userDetails);
+        ChangeToken after = ChangeToken.decode(since);
+        long now = System.currentTimeMillis();
+        // 보존 기간 이전에 마지막으로 빠짐없이 받은 클라이언트는 그 사이 영구 삭제된 툼스톤을 놓쳤을 수 있다.
+        // 행의 updatedAt이 아니라 동기화 시각으로 판단하므로 오래된 할 일을 여러 페이지로 받는 첫 동기화는 막지 않는다.
+        if (after != ChangeToken.INITIAL && after.getSyncedAt() < todoPurgeService.getHorizonMillis()) {
+            throw new GoneException("Sync token is older than the retention period; start a full sync");
+        }
+        long syncedAt = after == ChangeToken.INITIAL ? now : after.getSyncedAt();
+        int pageSize = pageSize(size);
+        long until = now - SYNC_COMMIT_LAG_MILLIS;
+
+        List<TodoChange> changes = todoRepository.findChangesAfter(user.getId(), after.getUpdatedAt(),
+                after.getId(), until, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = changes.size() > pageSize;
+        List<TodoChange> items = hasMore ? changes.subList(0, pageSize) : changes;
+        // 마지막 페이지까지 받았으면 조회 상한까지는 빠짐없이 받은 것이다. 변경이 없어도 동기화 시각을 올려 두어,
+        // 주기적으로 동기화하는 클라이언트가 보존 기간을 넘기지 않게 한다
+        long nextSyncedAt = hasMore ? syncedAt : Math.max(syncedAt, until);
+        ChangeToken next;
+        if (!items.isEmpty()) {
+            next = ChangeToken.after(items.get(items.size() - 1), nextSyncedAt);
+        } else if (until > after.getUpdatedAt()) {
+            next = new ChangeToken(until, 0L, nextSyncedAt);
+        } else {
+            next = new ChangeToken(after.getUpdatedAt(), after.getId(), nextSyncedAt);
+        }
+        return new TodoChanges(items, next.encode(), hasMore);
+    }
 
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
+    @Transactional(readOnly = true)
+    public TodoVersion getTodosVersion(UserDetails userDetails) {
+        User user = resolveUser(userDetails);
+        return todoRepository.findActiveVersionByUserId(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public TodoVersion getDateVersion(UserDetails userDetails, LocalDate date) {
+        User user = resolveUser(userDetails);
+        return todoRepository.findVersionByUserIdAndDueDateBetween(user.getId(), date, date)
+                .combine(todoSeriesService.getVersion(user.getId(), date, date));
+    }
+
+    @Transactional(readOnly = true)
+    public TodoVersion getMonthVersion(UserDetails userDetails, YearMonth yearMonth) {
+        User user = resolveUser(userDetails);
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+        return todoRepository.findVersionByUserIdAndDueDateBetween(user.getId(), start, end)
+                .combine(todoSeriesService.getVersion(user.getId(), start, end));
+    }
 
-        return todoRepository.findByUserAndDueDateBetween(user, startDate, endDate).stream()
-                .map(this::convertToResponse)
+    @Transactional(readOnly = true)
+    public List<DailyTodoSummary> getMonthSummary(UserDetails userDetails, YearMonth yearMonth) {
+        User user = resolveUser(userDetails);
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+        LocalDate today = LocalDate.now();
+
+        List<DailyTodoSummary> summaries = todoRepository.summarizeByUserIdAndDueDateBetween(
+                user.getId(), start, end, today);
+        List<TodoResponse> occurrences = todoSeriesService.expand(user.getId(), start, end);
+        if (occurrences.isEmpty()) {
+            return summaries;
+        }
+
+        // 반복 발생일은 DB 집계에 없으므로 같은 기준으로 세어 일자별로 더한다
+        Map<LocalDate, long[]> counts = new TreeMap<>();
+        for (DailyTodoSummary summary : summaries) {
+            counts.put(summary.getDate(), new long[]{summary.getTotal(), summary.getCompleted(), summary.getOverdue()});
+        }
+        for (TodoResponse occurrence : occurrences) {
+            long[] count = counts.computeIfAbsent(occurrence.getDueDate(), date -> new long[3]);
+            count[0]++;
+            if (occurrence.isCompleted()) {
+                count[1]++;
+            } else if (occurrence.getDueDate().isBefore(today)) {
+                count[2]++;
+            }
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new DailyTodoSummary(entry.getKey(), entry.getValue()[0],
+                        entry.getValue()[1], entry.getValue()[2]))
                 .collect(Collectors.toList());
     }
 
-    private TodoResponse convertToResponse(Todo todo) {
+    @Transactional(readOnly = true)
+    public void streamTodos(UserDetails userDetails, Consumer<TodoResponse> consumer) {
+        User user = resolveUser(userDetails);
+        forEachDetached(todoRepository.streamActiveByUserId(user.getId()), consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamDeletedTodos(UserDetails userDetails, Consumer<TodoResponse> consumer) {
+        User user = resolveUser(userDetails);
+        forEachDetached(todoRepository.streamDeletedByUserId(user.getId()), consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamTodosByMonth(UserDetails userDetails, YearMonth yearMonth, Consumer<TodoResponse> consumer) {
+        User user = resolveUser(userDetails);
+        forEachDetached(todoRepository.streamActiveByUserIdAndDueDateBetween(
+                user.getId(), yearMonth.atDay(1), yearMonth.atEndOfMonth()), consumer);
+    }
+
+    private List<BulkItemResult> applyToOwnedTodos(UserDetails userDetails, List<Long> ids,
+                                                   Consumer<Todo> change) {
+        checkBulkSize(ids);
+        User user = resolveUser(userDetails);
+        Map<Long, Todo> owned = findOwnedTodos(user, ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<BulkItemResult> results = new ArrayList<>(ids.size());
+        List<LocalDate> dueDates = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Todo todo = owned.get(ids.get(i));
+            if (todo == null) {
+                results.add(BulkItemResult.failure(i, ids.get(i), HttpStatus.NOT_FOUND, "Todo not found"));
+                continue;
+            }
+            change.accept(todo);
+            dueDates.add(todo.getDueDate());
+            results.add(BulkItemResult.success(i, todo.getId(), HttpStatus.OK));
+        }
+
+        publishChange(user, dueDates.toArray(new LocalDate[0]));
+        return results;
+    }
+
+    private Map<Long, Todo> findOwnedTodos(User user, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return todoRepository.findByUserIdAndIdIn(user.getId(), ids).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("Bulk requests must contain between 1 and " + MAX_BULK_SIZE + " items");
+        }
+    }
+
+    private String firstViolation(Object request) {
+        if (request == null) {
+            return "Item is required";
+        }
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private List<TodoResponse> findMonth(User user, YearMonth yearMonth) {
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+        List<TodoResponse> todos = todoRepository.findResponsesByUserIdAndDueDateBetween(user.getId(), start, end);
+        return TodoSeriesService.merge(todos, todoSeriesService.expand(user.getId(), start, end));
+    }
+
+    private void publishChange(User user, LocalDate... dueDates) {
+        eventPublisher.publishEvent(new TodoChangedEvent(user.getId(), Stream.of(dueDates)
+                .filter(Objects::nonNull)
+                .map(YearMonth::from)
+                .collect(Collectors.toSet())));
+    }
+
+    private void forEachDetached(Stream<Todo> todos, Consumer<TodoResponse> consumer) {
+        // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 변환 직후 분리해 행 수와 무관하게 메모리를 일정하게 유지한다.
+        try (Stream<Todo> stream = todos) {
+            stream.forEach(todo -> {
+                consumer.accept(convertToResponse(todo));
+                entityManager.detach(todo);
+            });
+        }
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    static long undatedAfterId(TodoCursor after) {
+        return after != null && after.getDueDate() == null ? after.getId() : 0L;
+    }
+
+    static TodoPage toPage(List<TodoResponse> todos, int pageSize) {
+        List<TodoResponse> items = todos.size() > pageSize ? todos.subList(0, pageSize) : todos;
+        String nextCursor = todos.size() > pageSize
+                ? TodoCursor.after(items.get(items.size() - 1)).encode()
+                : null;
+        return new TodoPage(items, nextCursor);
+    }
+
+    private User resolveUser(UserDetails userDetails) {
+        if (userDetails instanceof UserPrincipal && ((UserPrincipal) userDetails).getId() != null) {
+            return userRepository.getReferenceById(((UserPrincipal) userDetails).getId());
+        }
+        return userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new NotFoundException("User not found"));
+    }
+
+    private Todo findOwnedTodo(User user, Long id) {
+        return todoRepository.findByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> new NotFoundException("Todo not found"));
+    }
+
+    // 삭제된 할 일은 복원 전까지 고치지 않는다. updatedAt이 삭제 시각으로 남아야 정리 기준이 맞는다
+    private Todo findOwnedLiveTodo(User user, Long id) {
+        Todo todo = findOwnedTodo(user, id);
+        if (todo.isDeleteFlag()) {
+            throw new NotFoundException("Todo not found");
+        }
+        return todo;
+    }
+
+    // JMH 벤치마크가 같은 패키지에서 직접 측정하므로 package-private으로 둔다
+    static TodoResponse convertToResponse(Todo todo) {
         return TodoResponse.builder()
                 .id(todo.getId())
                 .uuid(todo.getUuid())
@@ -0,0 +1,132 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.CacheConfig;
+import com.example.calendar.dto.TodoResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 월 단위 할 일 목록 캐시. 일별 조회도 같은 월 항목에서 걸러 낸다.
+ * 쓰기는 커밋 후 {@link TodoChangedEvent}로 바뀐 월만 무효화한다. 반복 시리즈의 발생일도 월 항목에 함께 담긴다.
+ */
+@Component
+public class TodoViewCache {
+
+    private final Cache months;
+    private final Counter invalidations;
+    // 사용자별 무효화 세대. 다른 사용자의 쓰기가 진행 중인 읽기를 버리게 하지 않도록 나눠 둔다.
+    // 쓰기가 있었던 사용자마다 long 하나뿐이라 사용자 수 이상으로 자라지 않는다.
+    private final ConcurrentMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public TodoViewCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.months = cacheManager.getCache(CacheConfig.TODO_MONTHS);
+        this.invalidations = Counter.builder("todo.view.cache.invalidations")
+                .description("Month view entries evicted by todo writes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 월 목록을 돌려주고, 없으면 읽어서 넣는다. 읽는 동안 커밋된 쓰기가 있으면 읽은 목록은 그 요청에만 쓰고
+     * 캐시에는 남기지 않는다. 그렇지 않으면 커밋 후 무효화보다 늦게 들어간 이전 목록이 TTL까지 남는다.
+     */
+    public List<TodoResponse> getMonth(Long userId, YearMonth yearMonth, Supplier<List<TodoResponse>> loader) {
+        List<TodoResponse> cached = peekMonth(userId, yearMonth);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generation(userId);
+        List<TodoResponse> todos = List.copyOf(loader.get());
+        putIfCurrent(new MonthKey(userId, yearMonth), todos, generation);
+        return todos;
+    }
+
+    public List<TodoResponse> getDate(Long userId, LocalDate date, Supplier<List<TodoResponse>> monthLoader) {
+        return getMonth(userId, YearMonth.from(date), monthLoader).stream()
+                .filter(todo -> date.equals(todo.getDueDate()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 로더를 호출하지 않고 캐시된 월 목록만 돌려준다. 비어 있으면 null이다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<TodoResponse> peekMonth(Long userId, YearMonth yearMonth) {
+        return months.get(new MonthKey(userId, yearMonth), List.class);
+    }
+
+    /**
+     * 캐시 밖에서 비동기로 읽은 월 목록을 넣는다. 읽기를 시작한 뒤 무효화가 있었다면
+     * 오래된 목록일 수 있으므로 버린다. {@code generation}은 읽기 전에 {@link #generation(Long)}으로 얻는다.
+     */
+    public void putMonth(Long userId, YearMonth yearMonth, List<TodoResponse> todos, long generation) {
+        putIfCurrent(new MonthKey(userId, yearMonth), List.copyOf(todos), generation);
+    }
+
+    public long generation(Long userId) {
+        AtomicLong generation = generations.get(userId);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        generations.computeIfAbsent(event.getUserId(), ignored -> new AtomicLong()).incrementAndGet();
+        if (event.isAllMonths()) {
+            evictUser(event.getUserId());
+            return;
+        }
+        for (YearMonth month : event.getMonths()) {
+            if (months.evictIfPresent(new MonthKey(event.getUserId(), month))) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    // 무효화는 세대를 올린 뒤 지우므로, 넣은 뒤에 세대를 다시 보면 무효화보다 늦게 들어간 항목도 걸러진다
+    private void putIfCurrent(MonthKey key, List<TodoResponse> todos, long generation) {
+        if (generation(key.getUserId()) != generation) {
+            return;
+        }
+        months.putIfAbsent(key, todos);
+        if (generation(key.getUserId()) != generation) {
+            months.evictIfPresent(key);
+        }
+    }
+
+    // 시리즈 변경처럼 드문 쓰기에서만 호출되므로 캐시 키를 훑는 비용을 감수한다
+    private void evictUser(Long userId) {
+        Object nativeCache = months.getNativeCache();
+        if (!(nativeCache instanceof com.github.benmanes.caffeine.cache.Cache)) {
+            months.clear();
+            invalidations.increment();
+            return;
+        }
+        ConcurrentMap<?, ?> entries = ((com.github.benmanes.caffeine.cache.Cache<?, ?>) nativeCache).asMap();
+        entries.keySet().removeIf(key -> {
+            boolean matches = key instanceof MonthKey && userId.equals(((MonthKey) key).getUserId());
+            if (matches) {
+                invalidations.increment();
+            }
+            return matches;
+        });
+    }
+
+    @Value
+    private static class MonthKey {
+        Long userId;
+        YearMonth month;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.JwtConfig;
+import com.example.calendar.util.BloomFilter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 ID 목록. 요청마다의 조회는 블룸 필터에서 대부분 끝나고,
+ * 필터가 "있을 수도 있음"이라고 답한 경우에만 정확한 집합을 확인한다.
+ * 정확한 집합에는 아직 만료되지 않은 폐기 토큰만 남는다.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationList(JwtConfig jwtConfig) {
+        this.expectedInsertions = jwtConfig.getRevocationExpectedInsertions();
+        this.falsePositiveRate = jwtConfig.getRevocationFalsePositiveRate();
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 ID를 폐기한다. 이번 호출로 새로 폐기됐을 때만 {@code true}를 돌려주므로,
+     * 같은 토큰을 동시에 폐기하려는 호출 가운데 정확히 하나만 {@code true}를 받는다.
+     */
+    public boolean revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return false;
+        }
+        // 정확한 집합보다 필터에 먼저 넣어야 isRevoked가 필터에서 걸러 내지 않는다.
+        BloomFilter filter = bloomFilter;
+        filter.put(tokenId);
+        boolean added = revokedUntil.putIfAbsent(tokenId, expiresAtMillis) == null;
+        // 그 사이 purgeExpired가 필터를 교체하고 다시 훑기까지 끝냈다면 새 필터에는 이 항목이 없다.
+        // 교체는 훑기보다 먼저이므로, 훑기가 놓친 항목이라면 여기서는 반드시 새 필터가 보인다.
+        while (filter != bloomFilter) {
+            filter = bloomFilter;
+            filter.put(tokenId);
+        }
+        return added;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedUntil.containsKey(tokenId);
+    }
+
+    public int size() {
+        return revokedUntil.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (!revokedUntil.values().removeIf(expiresAt -> expiresAt <= now)) {
+            return;
+        }
+        // 블룸 필터는 삭제를 지원하지 않으므로 남은 항목으로 다시 만든다.
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        revokedUntil.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // 교체 직전에 폐기되어 이전 필터에만 들어간 항목을 새 필터에도 반영한다.
+        revokedUntil.keySet().forEach(rebuilt::put);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.JwtConfig;
+import com.example.calendar.store.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 토큰 클레임만으로 인증할 때 탈퇴/삭제된 사용자를 걸러내기 위한 짧은 TTL 캐시.
+ */
+@Component
+public class UserStatusCache {
+
+    private final LoadingCache<Long, Boolean> activeUsers;
+
+    public UserStatusCache(UserRepository userRepository, JwtConfig jwtConfig) {
+        this.activeUsers = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.getCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(jwtConfig.getPrincipalRecheckTtl()))
+                .build(userRepository::existsByIdAndDeleteFlagFalse);
+    }
+
+    public boolean isActive(Long userId) {
+        return activeUsers.get(userId);
+    }
+
+    public void evict(Long userId) {
+        activeUsers.invalidate(userId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.calendar.store;
+
+import com.example.calendar.domain.TodoOccurrenceId;
+import com.example.calendar.domain.TodoOccurrenceOverride;
+import com.example.calendar.dto.TodoOccurrenceState;
+import com.example.calendar.dto.TodoVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface TodoOccurrenceOverrideRepository extends JpaRepository<TodoOccurrenceOverride, TodoOccurrenceId> {
+
+    @Query("select new com.example.calendar.dto.TodoOccurrenceState("
+            + "o.id.seriesId, o.id.occurrenceDate, o.completed, o.cancelled) "
+            + "from TodoOccurrenceOverride o where o.id.seriesId in :seriesIds "
+            + "and o.id.occurrenceDate between :startDate and :endDate")
+    List<TodoOccurrenceState> findStates(@Param("seriesIds") Collection<Long> seriesIds,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    @Query("select new com.example.calendar.dto.TodoVersion(count(o), max(o.updatedAt)) "
+            + "from TodoOccurrenceOverride o where o.series.user.id = :userId "
+            + "and o.id.occurrenceDate between :startDate and :endDate")
+    TodoVersion findVersionInWindow(@Param("userId") Long userId,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,123 @@
+package com.example.calendar.store;
+
+import com.example.calendar.dto.TodoOccurrenceState;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoSeriesResponse;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * {@link TodoRepository}의 읽기 쿼리 중 리액티브 조회에 필요한 것만 R2DBC로 옮긴 것.
+ * 조건과 정렬은 JPA 쪽 쿼리와 같아서 같은 인덱스(idx_todos_live_user_due_date_id)를 탄다.
+ */
+@Repository
+@ConditionalOnProperty(name = "todo.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TodoReactiveRepository {
+
+    private static final String RESPONSE_COLUMNS = "select id, uuid, title, description, due_date, completed, "
+            + "created_at, updated_at from todos ";
+    private static final String LIVE = "delete_flag = false ";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> findUserIdByEmail(String email) {
+        return databaseClient.sql("select id from users where email = :email")
+                .bind("email", email)
+                .map(row -> toLong(row.get("id")))
+                .one();
+    }
+
+    public Flux<TodoResponse> findDatedPage(Long userId, int limit) {
+        return databaseClient.sql(RESPONSE_COLUMNS + "where user_id = :userId and " + LIVE
+                        + "and due_date is not null order by due_date asc, id asc limit :limit")
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .map(TodoReactiveRepository::toResponse)
+                .all();
+    }
+
+    public Flux<TodoResponse> findDatedPageAfter(Long userId, LocalDate dueDate, Long id, int limit) {
+        return databaseClient.sql(RESPONSE_COLUMNS + "where user_id = :userId and " + LIVE
+                        + "and (due_date > :dueDate or (due_date = :dueDate and id > :id)) "
+                        + "order by due_date asc, id asc limit :limit")
+                .bind("userId", userId)
+                .bind("dueDate", dueDate)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(TodoReactiveRepository::toResponse)
+                .all();
+    }
+
+    public Flux<TodoResponse> findUndatedPageAfter(Long userId, Long id, int limit) {
+        return databaseClient.sql(RESPONSE_COLUMNS + "where user_id = :userId and " + LIVE
+                        + "and due_date is null and id > :id order by id asc limit :limit")
+                .bind("userId", userId)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(TodoReactiveRepository::toResponse)
+                .all();
+    }
+
+    public Flux<TodoResponse> findResponsesByUserIdAndDueDateBetween(Long userId, LocalDate startDate,
+                                                                     LocalDate endDate) {
+        return databaseClient.sql(RESPONSE_COLUMNS + "where user_id = :userId and " + LIVE
+                        + "and due_date between :startDate and :endDate order by due_date asc, id asc")
+                .bind("userId", userId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map(TodoReactiveRepository::toResponse)
+                .all();
+    }
+
+    public Flux<TodoSeriesResponse> findActiveSeriesInWindow(Long userId, LocalDate startDate, LocalDate endDate) {
+        return databaseClient.sql("select id, uuid, title, description, rrule, start_date, end_date from todo_series "
+                        + "where user_id = :userId and " + LIVE
+                        + "and start_date <= :endDate and (end_date is null or end_date >= :startDate) "
+                        + "order by id asc")
+                .bind("userId", userId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map(row -> new TodoSeriesResponse(toLong(row.get("id")), row.get("uuid", UUID.class),
+                        row.get("title", String.class), row.get("description", String.class),
+                        row.get("rrule", String.class), row.get("start_date", LocalDate.class),
+                        row.get("end_date", LocalDate.class)))
+                .all();
+    }
+
+    public Flux<TodoOccurrenceState> findOccurrenceStates(Collection<Long> seriesIds, LocalDate startDate,
+                                                          LocalDate endDate) {
+        return databaseClient.sql("select series_id, occurrence_date, completed, cancelled "
+                        + "from todo_occurrence_overrides where series_id in (:seriesIds) "
+                        + "and occurrence_date between :startDate and :endDate")
+                .bind("seriesIds", seriesIds)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map(row -> new TodoOccurrenceState(toLong(row.get("series_id")),
+                        row.get("occurrence_date", LocalDate.class),
+                        Boolean.TRUE.equals(row.get("completed", Boolean.class)),
+                        Boolean.TRUE.equals(row.get("cancelled", Boolean.class))))
+                .all();
+    }
+
+    private static TodoResponse toResponse(Row row) {
+        return new TodoResponse(toLong(row.get("id")), row.get("uuid", UUID.class),
+                row.get("title", String.class), row.get("description", String.class),
+                row.get("due_date", LocalDate.class), Boolean.TRUE.equals(row.get("completed", Boolean.class)),
+                toLong(row.get("created_at")), toLong(row.get("updated_at")));
+    }
+
+    // 드라이버가 컬럼 타입에 따라 Integer/Long을 돌려주므로 Number로 받아 맞춘다
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+}
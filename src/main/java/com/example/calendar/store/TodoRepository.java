@@ -1,17 +1,142 @@
 package com.example.calendar.store;
 
 import com.example.calendar.domain.Todo;
-import com.example.calendar.domain.User;
+import com.example.calendar.dto.DailyTodoSummary;
+import com.example.calendar.dto.TodoChange;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
-    List<Todo> findByUserAndDueDate(User user, LocalDate dueDate);
-    List<Todo> findByUserAndDueDateBetween(User user, LocalDate startDate, LocalDate endDate);
-    List<Todo> findByUserAndCompleted(User user, boolean completed);
-    List<Todo> findByUser(User user);
-    List<Todo> findByUserAndDeleteFlagTrue(User user);
-    List<Todo> findByUserAndDeleteFlagFalse(User user);
-} 
\ No newline at end of file
+    String STREAM_FETCH_SIZE = "500";
+    String RESPONSE_PROJECTION = "select new com.example.calendar.dto.TodoResponse("
+            + "t.id, t.uuid, t.title, t.description, t.dueDate, t.completed, t.createdAt, t.updatedAt) "
+            + "from Todo t ";
+    String LIVE = "t.deleteFlag = false ";
+
+    // 단건/일괄 조회는 삭제된 할 일의 복원에도 쓰이므로 delete_flag를 호출부에서 판단한다.
+    // 그 밖의 목록·집계 쿼리는 삭제되지 않은 할 일만(LIVE) 또는 삭제된 할 일만 읽는다.
+    Optional<Todo> findByIdAndUserId(Long id, Long userId);
+    List<Todo> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and " + LIVE + "and t.dueDate is not null "
+            + "order by t.dueDate asc, t.id asc")
+    List<TodoResponse> findDatedPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and " + LIVE
+            + "and (t.dueDate > :dueDate or (t.dueDate = :dueDate and t.id > :id)) "
+            + "order by t.dueDate asc, t.id asc")
+    List<TodoResponse> findDatedPageAfter(@Param("userId") Long userId, @Param("dueDate") LocalDate dueDate,
+                                          @Param("id") Long id, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and " + LIVE + "and t.dueDate is null and t.id > :id "
+            + "order by t.id asc")
+    List<TodoResponse> findUndatedPageAfter(@Param("userId") Long userId, @Param("id") Long id, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and t.deleteFlag = true and t.dueDate is not null "
+            + "order by t.dueDate asc, t.id asc")
+    List<TodoResponse> findDeletedDatedPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and t.deleteFlag = true "
+            + "and (t.dueDate > :dueDate or (t.dueDate = :dueDate and t.id > :id)) "
+            + "order by t.dueDate asc, t.id asc")
+    List<TodoResponse> findDeletedDatedPageAfter(@Param("userId") Long userId, @Param("dueDate") LocalDate dueDate,
+                                                 @Param("id") Long id, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and t.deleteFlag = true and t.dueDate is null "
+            + "and t.id > :id order by t.id asc")
+    List<TodoResponse> findDeletedUndatedPageAfter(@Param("userId") Long userId, @Param("id") Long id,
+                                                   Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and " + LIVE
+            + "and t.dueDate between :startDate and :endDate order by t.dueDate asc, t.id asc")
+    List<TodoResponse> findResponsesByUserIdAndDueDateBetween(@Param("userId") Long userId,
+                                                              @Param("startDate") LocalDate startDate,
+                                                              @Param("endDate") LocalDate endDate);
+
+    @Query("select new com.example.calendar.dto.TodoChange("
+            + "t.id, t.uuid, t.title, t.description, t.dueDate, t.completed, t.deleteFlag, t.updatedAt) "
+            + "from Todo t where t.user.id = :userId "
+            + "and (t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id)) "
+            + "and t.updatedAt <= :until "
+            + "order by t.updatedAt asc, t.id asc")
+    List<TodoChange> findChangesAfter(@Param("userId") Long userId, @Param("updatedAt") Long updatedAt,
+                                      @Param("id") Long id, @Param("until") Long until, Pageable pageable);
+
+    @Query("select new com.example.calendar.dto.TodoVersion(count(t), max(t.updatedAt)) "
+            + "from Todo t where t.user.id = :userId and " + LIVE)
+    TodoVersion findActiveVersionByUserId(@Param("userId") Long userId);
+
+    @Query("select new com.example.calendar.dto.TodoVersion(count(t), max(t.updatedAt)) "
+            + "from Todo t where t.user.id = :userId and " + LIVE + "and t.dueDate between :startDate and :endDate")
+    TodoVersion findVersionByUserIdAndDueDateBetween(@Param("userId") Long userId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    @Query("select new com.example.calendar.dto.DailyTodoSummary(t.dueDate, count(t), "
+            + "sum(case when t.completed = true then 1 else 0 end), "
+            + "sum(case when t.completed = false and t.dueDate < :today then 1 else 0 end)) "
+            + "from Todo t where t.user.id = :userId and " + LIVE + "and t.dueDate between :startDate and :endDate "
+            + "group by t.dueDate order by t.dueDate asc")
+    List<DailyTodoSummary> summarizeByUserIdAndDueDateBetween(@Param("userId") Long userId,
+                                                              @Param("startDate") LocalDate startDate,
+                                                              @Param("endDate") LocalDate endDate,
+                                                              @Param("today") LocalDate today);
+
+    // search_vector는 V6의 생성 컬럼이라 엔티티에 매핑되지 않으므로 네이티브 쿼리로 순위가 매겨진 id만 읽는다
+    @Query(value = "select t.id from todos t, to_tsquery('simple', :query) q "
+            + "where t.user_id = :userId and t.delete_flag = false and t.search_vector @@ q "
+            + "order by ts_rank(t.search_vector, q) desc, t.id asc limit :limit offset :offset",
+            nativeQuery = true)
+    List<Number> searchIds(@Param("userId") Long userId,
+                           @Param("query") String query,
+                           @Param("limit") int limit,
+                           @Param("offset") int offset);
+
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and t.id in :ids")
+    List<TodoResponse> findResponsesByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(RESPONSE_PROJECTION + "where t.user.id = :userId and " + LIVE
+            + "order by t.dueDate asc, t.id asc")
+    Stream<TodoResponse> streamActiveResponsesByUserId(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select t from Todo t where t.user.id = :userId and " + LIVE + "order by t.dueDate asc, t.id asc")
+    Stream<Todo> streamActiveByUserId(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select t from Todo t where t.user.id = :userId and t.deleteFlag = true "
+            + "order by t.dueDate asc, t.id asc")
+    Stream<Todo> streamDeletedByUserId(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select t from Todo t where t.user.id = :userId and " + LIVE
+            + "and t.dueDate between :startDate and :endDate order by t.dueDate asc, t.id asc")
+    Stream<Todo> streamActiveByUserIdAndDueDateBetween(@Param("userId") Long userId,
+                                                       @Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
+
+    // 보존 기간이 지난 소프트 삭제 행을 id 순 키셋으로 조금씩 찾는다. 삭제 후에는 수정되지 않으므로 updatedAt이 삭제 시각이다.
+    @Query("select t.id from Todo t where t.deleteFlag = true and t.updatedAt < :deletedBefore and t.id > :afterId "
+            + "order by t.id asc")
+    List<Long> findPurgeableIds(@Param("deletedBefore") Long deletedBefore, @Param("afterId") Long afterId,
+                                Pageable pageable);
+
+    // 조회와 삭제 사이에 복원된 행은 조건을 다시 확인해 남긴다
+    @Modifying
+    @Query("delete from Todo t where t.id in :ids and t.deleteFlag = true and t.updatedAt < :deletedBefore")
+    int deletePurgeable(@Param("ids") Collection<Long> ids, @Param("deletedBefore") Long deletedBefore);
+}
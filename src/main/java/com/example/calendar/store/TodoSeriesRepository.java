@@ -0,0 +1,36 @@
+package com.example.calendar.store;
+
+import com.example.calendar.domain.TodoSeries;
+import com.example.calendar.dto.TodoSeriesResponse;
+import com.example.calendar.dto.TodoVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface TodoSeriesRepository extends JpaRepository<TodoSeries, Long> {
+    String SERIES_PROJECTION = "select new com.example.calendar.dto.TodoSeriesResponse("
+            + "s.id, s.uuid, s.title, s.description, s.rrule, s.startDate, s.endDate) "
+            + "from TodoSeries s ";
+    String ACTIVE_IN_WINDOW = "where s.user.id = :userId and s.deleteFlag = false "
+            + "and s.startDate <= :endDate and (s.endDate is null or s.endDate >= :startDate) ";
+
+    Optional<TodoSeries> findByIdAndUserIdAndDeleteFlagFalse(Long id, Long userId);
+
+    @Query(SERIES_PROJECTION + "where s.user.id = :userId and s.deleteFlag = false order by s.startDate asc, s.id asc")
+    List<TodoSeriesResponse> findActiveByUserId(@Param("userId") Long userId);
+
+    @Query(SERIES_PROJECTION + ACTIVE_IN_WINDOW + "order by s.id asc")
+    List<TodoSeriesResponse> findActiveInWindow(@Param("userId") Long userId,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+
+    @Query("select new com.example.calendar.dto.TodoVersion(count(s), max(s.updatedAt)) "
+            + "from TodoSeries s " + ACTIVE_IN_WINDOW)
+    TodoVersion findVersionInWindow(@Param("userId") Long userId,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,88 @@
+package com.example.calendar.store;
+
+import com.example.calendar.config.CacheConfig;
+import com.example.calendar.domain.User;
+import com.example.calendar.service.FeedTokenRevokedEvent;
+import com.example.calendar.service.UserStatusCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 사용자 엔티티가 저장/수정/삭제되면 커밋 이후 사용자 캐시에서 제거한다.
+ * 삭제된 사용자의 피드 토큰은 {@link FeedTokenRevokedEvent}로 알려 피드 토큰 캐시에서도 지운다.
+ */
+@Component
+public class UserCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<UserStatusCache> userStatusCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserCacheEvictionListener(CacheManager cacheManager, ObjectProvider<UserStatusCache> userStatusCache,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.cacheManager = cacheManager;
+        this.userStatusCache = userStatusCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(User user) {
+        evictAfterCommit(user);
+        if (user.isDeleteFlag()) {
+            revokeFeedToken(user);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        evictAfterCommit(user);
+        revokeFeedToken(user);
+    }
+
+    private void revokeFeedToken(User user) {
+        if (user.getFeedToken() != null) {
+            eventPublisher.publishEvent(new FeedTokenRevokedEvent(user.getFeedToken()));
+        }
+    }
+
+    private void evictAfterCommit(User user) {
+        final String email = user.getEmail();
+        final Long id = user.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(email, id);
+                }
+            });
+        } else {
+            evict(email, id);
+        }
+    }
+
+    private void evict(String email, Long id) {
+        evict(CacheConfig.USERS_BY_EMAIL, email);
+        evict(CacheConfig.USERS_BY_ID, id);
+        if (id != null) {
+            userStatusCache.ifAvailable(cache -> cache.evict(id));
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
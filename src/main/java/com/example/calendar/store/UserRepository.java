@@ -1,13 +1,26 @@
 package com.example.calendar.store;
 
+import com.example.calendar.config.CacheConfig;
 import com.example.calendar.domain.User;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0", unless = "#result == null")
     Optional<User> findByEmail(String email);
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0", unless = "#result == null")
+    Optional<User> findById(Long id);
+
+    // 캐시를 거치지 않으므로 수정할 사용자를 영속 상태로 읽을 때 쓴다
+    Optional<User> findByIdAndDeleteFlagFalse(Long id);
+
     Optional<User> findByUuid(UUID uuid);
     boolean existsByEmail(String email);
-} 
\ No newline at end of file
+    boolean existsByIdAndDeleteFlagFalse(Long id);
+    Optional<User> findByFeedTokenAndDeleteFlagFalse(String feedToken);
+}
@@ -0,0 +1,32 @@
+package com.example.calendar.util;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * 현재 장비에서 한 번의 해시가 목표 시간 이상 걸리는 가장 낮은 BCrypt 강도를 찾는다.
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 16;
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis) {
+        for (int strength = MIN_STRENGTH; strength < MAX_STRENGTH; strength++) {
+            if (measureMillis(strength) >= targetMillis) {
+                return strength;
+            }
+        }
+        return MAX_STRENGTH;
+    }
+
+    private static long measureMillis(int strength) {
+        String salt = BCrypt.gensalt(strength);
+        long start = System.nanoTime();
+        BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.calendar.util;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * VTODO/VEVENT 하나. 같은 이름의 속성이 여러 번 나오면 첫 번째 값만 남긴다.
+ */
+@Getter
+public class ICalendarComponent {
+    private final String name;
+    private final int index;
+    private final Map<String, Property> properties = new HashMap<>();
+
+    ICalendarComponent(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    void add(String propertyName, Map<String, String> parameters, String value) {
+        properties.putIfAbsent(propertyName, new Property(parameters, value));
+    }
+
+    public String value(String propertyName) {
+        Property property = properties.get(propertyName);
+        return property != null ? property.getValue() : null;
+    }
+
+    public Property property(String propertyName) {
+        return properties.get(propertyName);
+    }
+
+    @Getter
+    public static class Property {
+        private final Map<String, String> parameters;
+        private final String value;
+
+        Property(Map<String, String> parameters, String value) {
+            this.parameters = parameters;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.calendar.util;
+
+public class ICalendarParseException extends RuntimeException {
+    public ICalendarParseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.calendar.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RFC 5545 스트림에서 VTODO/VEVENT를 하나씩 읽는다.
+ * 줄 단위로 읽고 접힌 줄만 이어 붙이므로 메모리는 파일 크기가 아니라 컴포넌트 하나 크기에 비례한다.
+ */
+public class ICalendarReader implements Closeable {
+
+    private static final Set<String> COMPONENTS = Set.of("VTODO", "VEVENT");
+    private static final int MAX_PROPERTIES = 256;
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final StringBuilder physical = new StringBuilder();
+    private String pending;
+    private boolean pushedBack;
+    private int componentCount;
+    private int lineNumber;
+
+    public ICalendarReader(Reader reader, int maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * 다음 VTODO/VEVENT를 돌려준다. 더 없으면 null.
+     */
+    public ICalendarComponent next() throws IOException {
+        ICalendarComponent current = null;
+        int nestedDepth = 0;
+        String line;
+        while ((line = readUnfoldedLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            ContentLine content = parse(line);
+            if ("BEGIN".equals(content.name)) {
+                String component = content.value.toUpperCase();
+                if (current == null && COMPONENTS.contains(component)) {
+                    current = new ICalendarComponent(component, ++componentCount);
+                } else if (current != null) {
+                    // VALARM 같은 하위 컴포넌트는 건너뛴다
+                    nestedDepth++;
+                }
+            } else if ("END".equals(content.name)) {
+                if (nestedDepth > 0) {
+                    nestedDepth--;
+                } else if (current != null && current.getName().equalsIgnoreCase(content.value)) {
+                    return current;
+                }
+            } else if (current != null && nestedDepth == 0 && current.getProperties().size() < MAX_PROPERTIES) {
+                current.add(content.name, content.parameters, content.value);
+            }
+        }
+        if (current != null) {
+            throw new ICalendarParseException("Unterminated " + current.getName() + " at line " + lineNumber);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readUnfoldedLine() throws IOException {
+        String line = pushedBack ? pending : readPhysicalLine();
+        pushedBack = false;
+        if (line == null) {
+            return null;
+        }
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = readPhysicalLine()) != null
+                && !next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(line);
+            }
+            unfolded.append(next, 1, next.length());
+            if (unfolded.length() > maxLineLength) {
+                throw new ICalendarParseException("Line " + lineNumber + " exceeds " + maxLineLength + " characters");
+            }
+        }
+        pending = next;
+        pushedBack = true;
+        return unfolded != null ? unfolded.toString() : line;
+    }
+
+    private String readPhysicalLine() throws IOException {
+        physical.setLength(0);
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                break;
+            }
+            if (c != '\r') {
+                physical.append((char) c);
+                if (physical.length() > maxLineLength) {
+                    throw new ICalendarParseException("Line " + (lineNumber + 1) + " exceeds "
+                            + maxLineLength + " characters");
+                }
+            }
+        }
+        if (c == -1 && physical.length() == 0) {
+            return null;
+        }
+        lineNumber++;
+        return physical.toString();
+    }
+
+    private ContentLine parse(String line) {
+        // name *(";" param) ":" value, 따옴표 안의 ; 와 : 는 구분자가 아니다
+        boolean quoted = false;
+        int nameEnd = -1;
+        int valueStart = -1;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (!quoted && c == ';' && nameEnd < 0) {
+                nameEnd = i;
+            } else if (!quoted && c == ':') {
+                valueStart = i + 1;
+                break;
+            }
+        }
+        if (valueStart < 0) {
+            throw new ICalendarParseException("Malformed content line " + lineNumber);
+        }
+        int nameLimit = nameEnd >= 0 ? nameEnd : valueStart - 1;
+        String name = line.substring(0, nameLimit).trim().toUpperCase();
+        Map<String, String> parameters = nameEnd >= 0
+                ? parseParameters(line.substring(nameEnd + 1, valueStart - 1))
+                : Map.of();
+        return new ContentLine(name, parameters, line.substring(valueStart));
+    }
+
+    private Map<String, String> parseParameters(String raw) {
+        Map<String, String> parameters = new HashMap<>();
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i <= raw.length(); i++) {
+            if (i < raw.length() && raw.charAt(i) == '"') {
+                quoted = !quoted;
+            } else if (i == raw.length() || (!quoted && raw.charAt(i) == ';')) {
+                String parameter = raw.substring(start, i);
+                int equals = parameter.indexOf('=');
+                if (equals > 0) {
+                    parameters.put(parameter.substring(0, equals).trim().toUpperCase(),
+                            parameter.substring(equals + 1).replace("\"", ""));
+                }
+                start = i + 1;
+            }
+        }
+        return parameters;
+    }
+
+    private static class ContentLine {
+        private final String name;
+        private final Map<String, String> parameters;
+        private final String value;
+
+        private ContentLine(String name, Map<String, String> parameters, String value) {
+            this.name = name;
+            this.parameters = parameters;
+            this.value = value;
+        }
+    }
+}
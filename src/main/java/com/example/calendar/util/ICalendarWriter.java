@@ -0,0 +1,113 @@
+package com.example.calendar.util;
+
+import com.example.calendar.dto.TodoResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 할 일을 VTODO로 RFC 5545 형식에 맞춰 쓴다. 75옥텟을 넘는 줄은 접어서 쓴다.
+ */
+public class ICalendarWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final Writer writer;
+    private final String uidDomain;
+    private final String renderedAt;
+
+    public ICalendarWriter(Writer writer, String uidDomain) {
+        this.writer = writer;
+        this.uidDomain = uidDomain;
+        this.renderedAt = UTC_DATE_TIME.format(Instant.now());
+    }
+
+    public void begin(String calendarName) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//calendar-backend//todo feed//KO");
+        line("CALSCALE:GREGORIAN");
+        line("X-WR-CALNAME:" + escape(calendarName));
+    }
+
+    public void write(TodoResponse todo) throws IOException {
+        line("BEGIN:VTODO");
+        line("UID:" + (todo.getUuid() != null ? todo.getUuid() : "todo-" + todo.getId()) + "@" + uidDomain);
+        line("DTSTAMP:" + (todo.getUpdatedAt() != null
+                ? UTC_DATE_TIME.format(Instant.ofEpochMilli(todo.getUpdatedAt()))
+                : renderedAt));
+        line("SUMMARY:" + escape(todo.getTitle()));
+        if (todo.getDescription() != null && !todo.getDescription().isEmpty()) {
+            line("DESCRIPTION:" + escape(todo.getDescription()));
+        }
+        if (todo.getDueDate() != null) {
+            line("DUE;VALUE=DATE:" + DATE.format(todo.getDueDate()));
+        }
+        line("STATUS:" + (todo.isCompleted() ? "COMPLETED" : "NEEDS-ACTION"));
+        line("END:VTODO");
+    }
+
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+        writer.flush();
+    }
+
+    private void line(String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int width = utf8Length(codePoint);
+            if (octets + width > MAX_LINE_OCTETS) {
+                // 멀티바이트 문자를 가르지 않도록 문자 경계에서 접는다
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(content, i, charCount);
+            octets += width;
+            i += charCount;
+        }
+        writer.write("\r\n");
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                case ';':
+                case ',':
+                    escaped.append('\\').append(c);
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -1,23 +1,42 @@
 package com.example.calendar.util;
 
 import com.example.calendar.config.JwtConfig;
+import com.example.calendar.domain.UserPrincipal;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String TYPE_CLAIM = "typ";
+
     private final JwtConfig jwtConfig;
 
+    public String resolveToken(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(jwtConfig.getPrefix())) {
+            return null;
+        }
+        return authorizationHeader.substring(jwtConfig.getPrefix().length()).trim();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -31,31 +50,68 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    @Timed(value = "jwt.parse", description = "JWT signature verification and claim parsing", histogram = true)
+    public TokenClaims parseToken(String token) {
+        final Claims claims = extractAllClaims(token);
+        final Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return new TokenClaims(
+                claims.getSubject(),
+                claims.getExpiration(),
+                userId != null ? userId.longValue() : null,
+                extractRoles(claims),
+                claims.getId(),
+                claims.get(TYPE_CLAIM, String.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> extractRoles(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        return roles instanceof List ? (List<String>) roles : Collections.emptyList();
+    }
+
     private Claims extractAllClaims(String token) {
         return Jwts.parser().setSigningKey(jwtConfig.getSecret()).parseClaimsJws(token).getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    @Timed(value = "jwt.generate", description = "Access token signing", histogram = true)
+    public String generateToken(UserDetails userDetails) {
+        return createToken(principalClaims(userDetails, ACCESS_TOKEN_TYPE), userDetails.getUsername(),
+                jwtConfig.getExpiration());
     }
 
-    public String generateToken(UserDetails userDetails) {
+    public String generateRefreshToken(UserDetails userDetails) {
+        return createToken(principalClaims(userDetails, REFRESH_TOKEN_TYPE), userDetails.getUsername(),
+                jwtConfig.getRefreshExpiration());
+    }
+
+    private Map<String, Object> principalClaims(UserDetails userDetails, String type) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(TYPE_CLAIM, type);
+        if (userDetails instanceof UserPrincipal) {
+            UserPrincipal principal = (UserPrincipal) userDetails;
+            claims.put(USER_ID_CLAIM, principal.getId());
+            claims.put(ROLES_CLAIM, principal.getRoles());
+        }
+        return claims;
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, long expirationSeconds) {
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtConfig.getExpiration() * 1000))
+                .setExpiration(new Date(System.currentTimeMillis() + expirationSeconds * 1000))
                 .signWith(SignatureAlgorithm.HS256, jwtConfig.getSecret())
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(parseToken(token), userDetails);
+    }
+
+    public Boolean validateToken(TokenClaims claims, UserDetails userDetails) {
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.isExpired()
+                && !claims.isRefreshToken());
     }
 } 
\ No newline at end of file
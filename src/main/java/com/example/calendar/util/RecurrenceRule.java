@@ -0,0 +1,429 @@
+package com.example.calendar.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * RFC 5545 RRULE의 일부(FREQ=DAILY/WEEKLY/MONTHLY/YEARLY, INTERVAL, BYDAY, BYMONTHDAY, UNTIL, COUNT)를
+ * 날짜 단위로 해석한다. 전개는 요청한 구간의 첫 주기로 바로 건너뛰고 epoch day 산술만으로 날짜를 만들며,
+ * 중간 목록 없이 구간 안의 발생일만 {@link OccurrenceSink}에 넘긴다.
+ */
+public final class RecurrenceRule {
+
+    public static final int MAX_COUNT = 10_000;
+
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_INTERVAL = 1_000;
+    private static final int MAX_BY_VALUES = 31;
+    // 발생일이 없는 규칙(예: INTERVAL=7과 어긋난 BYDAY)에서 COUNT를 세다 멈추지 않도록 상한을 둔다
+    private static final long LAST_SEARCHABLE_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
+    /**
+     * 발생일을 epoch day로 받는다. false를 돌려주면 전개를 멈춘다.
+     */
+    @FunctionalInterface
+    public interface OccurrenceSink {
+        boolean accept(long epochDay);
+    }
+
+    private final Frequency frequency;
+    private final int interval;
+    // bit n = 요일 (MONDAY=0 ... SUNDAY=6), 서수 없는 BYDAY
+    private final int weekdayMask;
+    // 서수가 붙은 BYDAY (MONTHLY 전용), 예: 2TU, -1FR
+    private final int[] ordinals;
+    private final int[] ordinalWeekdays;
+    private final int[] monthDays;
+    private final Integer count;
+    private final LocalDate until;
+
+    private RecurrenceRule(Frequency frequency, int interval, int weekdayMask, int[] ordinals,
+                           int[] ordinalWeekdays, int[] monthDays, Integer count, LocalDate until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.weekdayMask = weekdayMask;
+        this.ordinals = ordinals;
+        this.ordinalWeekdays = ordinalWeekdays;
+        this.monthDays = monthDays;
+        this.count = count;
+        this.until = until;
+    }
+
+    public static RecurrenceRule parse(String rrule) {
+        if (rrule == null || rrule.isBlank()) {
+            throw new IllegalArgumentException("RRULE is required");
+        }
+        String value = rrule.trim();
+        if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            value = value.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        int weekdayMask = 0;
+        int[] ordinals = new int[0];
+        int[] ordinalWeekdays = new int[0];
+        int[] monthDays = new int[0];
+        Integer count = null;
+        LocalDate until = null;
+
+        for (String part : value.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Malformed RRULE part: " + part);
+            }
+            String name = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+            String partValue = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+            switch (name) {
+                case "FREQ":
+                    try {
+                        frequency = Frequency.valueOf(partValue);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unsupported FREQ: " + partValue);
+                    }
+                    break;
+                case "INTERVAL":
+                    interval = parseInt(name, partValue, 1, MAX_INTERVAL);
+                    break;
+                case "COUNT":
+                    count = parseInt(name, partValue, 1, MAX_COUNT);
+                    break;
+                case "UNTIL":
+                    until = parseUntil(partValue);
+                    break;
+                case "BYMONTHDAY":
+                    monthDays = parseMonthDays(partValue);
+                    break;
+                case "BYDAY": {
+                    String[] days = splitList(name, partValue);
+                    int ordinalCount = 0;
+                    ordinals = new int[days.length];
+                    ordinalWeekdays = new int[days.length];
+                    for (String day : days) {
+                        int weekday = weekdayIndex(day.substring(Math.max(0, day.length() - 2)));
+                        String ordinal = day.substring(0, day.length() - 2);
+                        if (ordinal.isEmpty()) {
+                            weekdayMask |= 1 << weekday;
+                        } else {
+                            int n = parseInt(name, ordinal.startsWith("+") ? ordinal.substring(1) : ordinal, -5, 5);
+                            if (n == 0) {
+                                throw new IllegalArgumentException("Invalid BYDAY ordinal: " + day);
+                            }
+                            ordinals[ordinalCount] = n;
+                            ordinalWeekdays[ordinalCount++] = weekday;
+                        }
+                    }
+                    ordinals = Arrays.copyOf(ordinals, ordinalCount);
+                    ordinalWeekdays = Arrays.copyOf(ordinalWeekdays, ordinalCount);
+                    break;
+                }
+                case "WKST":
+                    if (!"MO".equals(partValue)) {
+                        throw new IllegalArgumentException("Only WKST=MO is supported");
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported RRULE part: " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ is required");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL must not both be set");
+        }
+        if (ordinals.length > 0 && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYDAY ordinals are only supported with FREQ=MONTHLY");
+        }
+        if (monthDays.length > 0 && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYMONTHDAY is only supported with FREQ=MONTHLY");
+        }
+        if (weekdayMask != 0 && frequency == Frequency.YEARLY) {
+            throw new IllegalArgumentException("BYDAY is not supported with FREQ=YEARLY");
+        }
+        return new RecurrenceRule(frequency, interval, weekdayMask, ordinals, ordinalWeekdays, monthDays, count, until);
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * 시리즈의 마지막 발생일. 끝이 없으면 null이다. COUNT는 한 번 세어 날짜로 바꾸므로 저장해 두고
+     * {@link #expand}의 {@code end}로 넘기면 이후 전개는 시작일부터 다시 셀 필요가 없다.
+     */
+    public LocalDate lastOccurrence(LocalDate start) {
+        if (until != null) {
+            return until;
+        }
+        if (count == null) {
+            return null;
+        }
+        long[] last = {start.toEpochDay()};
+        int[] remaining = {count};
+        generate(start.toEpochDay(), start.toEpochDay(), LAST_SEARCHABLE_DAY, day -> {
+            last[0] = day;
+            return --remaining[0] > 0;
+        });
+        return LocalDate.ofEpochDay(last[0]);
+    }
+
+    /**
+     * [{@code from}, {@code to}] 구간의 발생일을 오름차순으로 넘긴다.
+     *
+     * @param start 시리즈 시작일 (DTSTART)
+     * @param end   {@link #lastOccurrence}로 구한 마지막 발생일, 끝이 없으면 null
+     */
+    public void expand(LocalDate start, LocalDate end, LocalDate from, LocalDate to, OccurrenceSink sink) {
+        long startDay = start.toEpochDay();
+        long toDay = to.toEpochDay();
+        if (end != null) {
+            toDay = Math.min(toDay, end.toEpochDay());
+        }
+        long fromDay = Math.max(from.toEpochDay(), startDay);
+        if (fromDay > toDay) {
+            return;
+        }
+        generate(startDay, fromDay, toDay, sink);
+    }
+
+    private void generate(long startDay, long fromDay, long toDay, OccurrenceSink sink) {
+        switch (frequency) {
+            case DAILY:
+                generateDaily(startDay, fromDay, toDay, sink);
+                break;
+            case WEEKLY:
+                generateWeekly(startDay, fromDay, toDay, sink);
+                break;
+            case MONTHLY:
+                generateMonthly(startDay, fromDay, toDay, interval, sink);
+                break;
+            case YEARLY:
+                generateMonthly(startDay, fromDay, toDay, interval * 12, sink);
+                break;
+        }
+    }
+
+    private void generateDaily(long startDay, long fromDay, long toDay, OccurrenceSink sink) {
+        long day = startDay + ceilDiv(fromDay - startDay, interval) * interval;
+        for (; day <= toDay; day += interval) {
+            if (weekdayMask != 0 && (weekdayMask & (1 << dayOfWeek(day))) == 0) {
+                continue;
+            }
+            if (!sink.accept(day)) {
+                return;
+            }
+        }
+    }
+
+    private void generateWeekly(long startDay, long fromDay, long toDay, OccurrenceSink sink) {
+        int mask = weekdayMask != 0 ? weekdayMask : 1 << dayOfWeek(startDay);
+        long firstWeek = startDay - dayOfWeek(startDay);
+        long step = 7L * interval;
+        long week = firstWeek + Math.floorDiv(fromDay - firstWeek, step) * step;
+        for (; week <= toDay; week += step) {
+            for (int weekday = 0; weekday < 7; weekday++) {
+                if ((mask & (1 << weekday)) == 0) {
+                    continue;
+                }
+                long day = week + weekday;
+                if (day < fromDay) {
+                    continue;
+                }
+                if (day > toDay || !sink.accept(day)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void generateMonthly(long startDay, long fromDay, long toDay, int monthStep, OccurrenceSink sink) {
+        int[] startDate = civil(startDay);
+        int[] fromDate = civil(fromDay);
+        long firstMonth = startDate[0] * 12L + startDate[1] - 1;
+        long fromMonth = fromDate[0] * 12L + fromDate[1] - 1;
+        long month = firstMonth + Math.floorDiv(fromMonth - firstMonth, monthStep) * monthStep;
+
+        while (true) {
+            int year = (int) Math.floorDiv(month, 12);
+            int monthOfYear = (int) Math.floorMod(month, 12) + 1;
+            long firstDay = epochDay(year, monthOfYear, 1);
+            if (firstDay > toDay) {
+                return;
+            }
+            int length = monthLength(year, monthOfYear);
+            long days = monthDayMask(startDate[2], firstDay, length);
+            while (days != 0) {
+                int dayOfMonth = Long.numberOfTrailingZeros(days);
+                days &= days - 1;
+                long day = firstDay + dayOfMonth - 1;
+                if (day < fromDay) {
+                    continue;
+                }
+                if (day > toDay || !sink.accept(day)) {
+                    return;
+                }
+            }
+            month += monthStep;
+        }
+    }
+
+    // 한 달 안의 발생일을 bit n = n일로 모은다. 비트 순서가 곧 날짜 순서라 정렬이 필요 없다.
+    // RFC 5545에 따라 BYMONTHDAY가 있으면 BYDAY는 날짜를 늘리지 않고 거른다 (BYDAY=FR;BYMONTHDAY=13 -> 13일의 금요일).
+    private long monthDayMask(int startDayOfMonth, long firstDay, int length) {
+        if (frequency == Frequency.YEARLY || (weekdayMask == 0 && ordinals.length == 0 && monthDays.length == 0)) {
+            return startDayOfMonth <= length ? 1L << startDayOfMonth : 0L;
+        }
+        long weekdays = weekdayDayMask(firstDay, length);
+        if (monthDays.length == 0) {
+            return weekdays;
+        }
+        long mask = 0L;
+        for (int monthDay : monthDays) {
+            int day = monthDay > 0 ? monthDay : length + monthDay + 1;
+            if (day >= 1 && day <= length) {
+                mask |= 1L << day;
+            }
+        }
+        return weekdayMask == 0 && ordinals.length == 0 ? mask : mask & weekdays;
+    }
+
+    // 서수 없는 BYDAY와 서수가 붙은 BYDAY는 모두 BYDAY이므로 합친다.
+    private long weekdayDayMask(long firstDay, int length) {
+        long mask = 0L;
+        int firstWeekday = dayOfWeek(firstDay);
+        if (weekdayMask != 0) {
+            for (int day = 1; day <= length; day++) {
+                if ((weekdayMask & (1 << ((firstWeekday + day - 1) % 7))) != 0) {
+                    mask |= 1L << day;
+                }
+            }
+        }
+        for (int i = 0; i < ordinals.length; i++) {
+            int n = ordinals[i];
+            int day;
+            if (n > 0) {
+                day = 1 + Math.floorMod(ordinalWeekdays[i] - firstWeekday, 7) + 7 * (n - 1);
+            } else {
+                int lastWeekday = (firstWeekday + length - 1) % 7;
+                day = length - Math.floorMod(lastWeekday - ordinalWeekdays[i], 7) - 7 * (-n - 1);
+            }
+            if (day >= 1 && day <= length) {
+                mask |= 1L << day;
+            }
+        }
+        return mask;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    // 1970-01-01은 목요일이다
+    private static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    // 그레고리력 (년, 월, 일) <-> epoch day 변환. LocalDate를 만들지 않기 위한 civil-from-days 계산.
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468L;
+    }
+
+    private static int[] civil(long epochDay) {
+        long z = epochDay + 719_468L;
+        long era = Math.floorDiv(z, 146_097L);
+        long dayOfEra = z - era * 146_097L;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return new int[]{year, month, day};
+    }
+
+    private static int monthLength(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int weekdayIndex(String code) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(code) && code.length() == 2) {
+                return day.ordinal();
+            }
+        }
+        throw new IllegalArgumentException("Invalid BYDAY value: " + code);
+    }
+
+    private static int[] parseMonthDays(String value) {
+        String[] days = splitList("BYMONTHDAY", value);
+        int[] result = new int[days.length];
+        for (int i = 0; i < days.length; i++) {
+            result[i] = parseInt("BYMONTHDAY", days[i], -31, 31);
+            if (result[i] == 0) {
+                throw new IllegalArgumentException("Invalid BYMONTHDAY value: 0");
+            }
+        }
+        return result;
+    }
+
+    private static String[] splitList(String name, String value) {
+        String[] values = value.split(",");
+        if (values.length > MAX_BY_VALUES) {
+            throw new IllegalArgumentException(name + " has too many values");
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i].trim();
+            if (values[i].isEmpty()) {
+                throw new IllegalArgumentException("Empty " + name + " value");
+            }
+        }
+        return values;
+    }
+
+    private static int parseInt(String name, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    // UNTIL은 날짜(20251231) 또는 UTC 일시(20251231T235959Z)를 받아 날짜만 쓴다
+    private static LocalDate parseUntil(String value) {
+        try {
+            return LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value, UNTIL_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid UNTIL: " + value);
+        }
+    }
+}
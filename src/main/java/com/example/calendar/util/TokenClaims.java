@@ -0,0 +1,26 @@
+package com.example.calendar.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    private final String subject;
+    private final Date expiration;
+    private final Long userId;
+    private final List<String> roles;
+    private final String tokenId;
+    private final String type;
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+
+    public boolean isRefreshToken() {
+        return JwtUtil.REFRESH_TOKEN_TYPE.equals(type);
+    }
+}
@@ -0,0 +1,8 @@
+-- Listing, by-date and by-month queries filter on user_id and walk (due_date, id) in order.
+CREATE INDEX IF NOT EXISTS idx_todos_user_due_date_id
+    ON todos (user_id, due_date, id);
+
+-- The deleted-items view only ever touches soft-deleted rows.
+CREATE INDEX IF NOT EXISTS idx_todos_deleted_user_due_date_id
+    ON todos (user_id, due_date, id)
+    WHERE delete_flag = TRUE;
@@ -0,0 +1,3 @@
+-- Delta sync walks a user's todos in (updated_at, id) order from the client's high-water mark.
+CREATE INDEX IF NOT EXISTS idx_todos_user_updated_at_id
+    ON todos (user_id, updated_at, id);
@@ -0,0 +1,6 @@
+-- Secret token that authenticates a user's read-only iCalendar subscription feed.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS feed_token VARCHAR(64);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_users_feed_token
+    ON users (feed_token)
+    WHERE feed_token IS NOT NULL;
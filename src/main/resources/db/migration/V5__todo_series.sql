@@ -0,0 +1,28 @@
+-- Recurring todos: one row per series, occurrences are expanded from the RRULE at read time.
+CREATE TABLE IF NOT EXISTS todo_series (
+    id BIGSERIAL PRIMARY KEY,
+    uuid UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id INTEGER NOT NULL REFERENCES users(id),
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    rrule VARCHAR(500) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    delete_flag BOOLEAN DEFAULT FALSE,
+    updated_at BIGINT
+);
+
+-- Window lookups only ever read a user's live series that start before the window ends.
+CREATE INDEX IF NOT EXISTS idx_todo_series_user_start_date
+    ON todo_series (user_id, start_date)
+    WHERE delete_flag = FALSE;
+
+-- Per-occurrence completion and exceptions (EXDATE); absent rows mean "not completed".
+CREATE TABLE IF NOT EXISTS todo_occurrence_overrides (
+    series_id BIGINT NOT NULL REFERENCES todo_series(id) ON DELETE CASCADE,
+    occurrence_date DATE NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    cancelled BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at BIGINT,
+    PRIMARY KEY (series_id, occurrence_date)
+);
@@ -0,0 +1,15 @@
+-- Full-text search over titles (weight A) and descriptions (weight B).
+-- 'simple' keeps tokens as-is (lowercased), which suits Korean text that has no built-in stemmer.
+-- Adding a stored generated column rewrites the table once.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+            || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- btree_gin lets the user filter and the text match share one index; search never returns deleted todos.
+CREATE INDEX IF NOT EXISTS idx_todos_user_search_vector
+    ON todos USING gin (user_id, search_vector)
+    WHERE delete_flag = FALSE;
@@ -0,0 +1,11 @@
+-- Live queries now always filter delete_flag = FALSE, so the listing index only needs live rows.
+CREATE INDEX IF NOT EXISTS idx_todos_live_user_due_date_id
+    ON todos (user_id, due_date, id)
+    WHERE delete_flag = FALSE;
+
+DROP INDEX IF EXISTS idx_todos_user_due_date_id;
+
+-- The purge job walks soft-deleted rows in id order, a small batch at a time.
+CREATE INDEX IF NOT EXISTS idx_todos_deleted_id
+    ON todos (id)
+    WHERE delete_flag = TRUE;
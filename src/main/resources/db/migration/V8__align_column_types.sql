@@ -0,0 +1,31 @@
+-- V1 was copied from the old schema.sql: SERIAL ids and TIMESTAMP audit columns. The entities map ids to Long
+-- and every timestamp to epoch milliseconds (Long), the same as todo_series in V5, so align the columns with them.
+-- Referencing columns are widened before the keys they point at; dependent indexes are rebuilt by ALTER TYPE.
+ALTER TABLE todos ALTER COLUMN user_id TYPE BIGINT;
+ALTER TABLE todo_series ALTER COLUMN user_id TYPE BIGINT;
+
+ALTER TABLE users ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE users_id_seq AS BIGINT;
+ALTER TABLE todos ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE todos_id_seq AS BIGINT;
+
+-- Public identifier exposed in responses, feeds and sync changes; V1 never had it on todos.
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS uuid UUID NOT NULL DEFAULT gen_random_uuid();
+
+ALTER TABLE users
+    ALTER COLUMN created_at DROP DEFAULT,
+    ALTER COLUMN updated_at DROP DEFAULT,
+    ALTER COLUMN created_at TYPE BIGINT USING (EXTRACT(EPOCH FROM created_at) * 1000)::BIGINT,
+    ALTER COLUMN updated_at TYPE BIGINT USING (EXTRACT(EPOCH FROM updated_at) * 1000)::BIGINT,
+    ALTER COLUMN deleted_at TYPE BIGINT USING (EXTRACT(EPOCH FROM deleted_at) * 1000)::BIGINT,
+    ALTER COLUMN created_at SET DEFAULT (EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000)::BIGINT,
+    ALTER COLUMN updated_at SET DEFAULT (EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000)::BIGINT;
+
+ALTER TABLE todos
+    ALTER COLUMN created_at DROP DEFAULT,
+    ALTER COLUMN updated_at DROP DEFAULT,
+    ALTER COLUMN created_at TYPE BIGINT USING (EXTRACT(EPOCH FROM created_at) * 1000)::BIGINT,
+    ALTER COLUMN updated_at TYPE BIGINT USING (EXTRACT(EPOCH FROM updated_at) * 1000)::BIGINT,
+    ALTER COLUMN deleted_at TYPE BIGINT USING (EXTRACT(EPOCH FROM deleted_at) * 1000)::BIGINT,
+    ALTER COLUMN created_at SET DEFAULT (EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000)::BIGINT,
+    ALTER COLUMN updated_at SET DEFAULT (EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000)::BIGINT;
@@ -0,0 +1,10 @@
+-- Todo ids move from the IDENTITY column default to a pooled sequence. Hibernate reserves 50 ids per nextval,
+-- so new todos no longer need an INSERT round trip each to read the generated key, and bulk creates and
+-- imports go out as JDBC batches (hibernate.jdbc.batch_size, reWriteBatchedInserts).
+CREATE SEQUENCE todos_id_pool_seq AS BIGINT INCREMENT BY 50;
+-- The pooled optimizer hands out (value - 49) .. value, so start one block past the existing ids.
+SELECT setval('todos_id_pool_seq', COALESCE((SELECT MAX(id) FROM todos), 0) + 50, false);
+
+-- Nothing may keep drawing from the old SERIAL sequence, or its ids would collide with the pooled blocks.
+ALTER TABLE todos ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE todos_id_seq;
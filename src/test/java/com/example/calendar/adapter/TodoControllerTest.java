@@ -4,6 +4,7 @@ import com.example.calendar.domain.Todo;
 import com.example.calendar.domain.User;
 import com.example.calendar.dto.TodoRequest;
 import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoVersion;
 import com.example.calendar.service.TodoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -20,6 +22,7 @@ import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -127,6 +130,7 @@ public class TodoControllerTest {
         List<TodoResponse> todos = Arrays.asList(testTodoResponse);
         LocalDate date = LocalDate.now();
 
+        Mockito.when(todoService.getDateVersion(any(), eq(date))).thenReturn(new TodoVersion(1, 1_700_000_000_000L));
         Mockito.when(todoService.getTodosByDate(any(), eq(date))).thenReturn(todos);
 
         mockMvc.perform(get("/api/todos/date/{date}", date))
@@ -140,6 +144,8 @@ public class TodoControllerTest {
         List<TodoResponse> todos = Arrays.asList(testTodoResponse);
         YearMonth yearMonth = YearMonth.of(2024, 4);
 
+        Mockito.when(todoService.getMonthVersion(any(), eq(yearMonth)))
+                .thenReturn(new TodoVersion(1, 1_700_000_000_000L));
         Mockito.when(todoService.getTodosByMonth(any(), eq(yearMonth))).thenReturn(todos);
 
         mockMvc.perform(get("/api/todos/month/{year}/{month}", yearMonth.getYear(), yearMonth.getMonthValue()))
@@ -147,4 +153,37 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$[0].title").value(testTodoResponse.getTitle()))
                 .andExpect(jsonPath("$[0].description").value(testTodoResponse.getDescription()));
     }
+
+    @Test
+    void getTodosByMonth_ShouldReturnNotModifiedWhenETagMatches() throws Exception {
+        YearMonth yearMonth = YearMonth.of(2024, 4);
+        TodoVersion version = new TodoVersion(1, 1_700_000_000_000L);
+
+        Mockito.when(todoService.getMonthVersion(any(), eq(yearMonth))).thenReturn(version);
+
+        mockMvc.perform(get("/api/todos/month/{yearMonth}", "2024-04")
+                .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.getETag()))
+                .andExpect(content().string(""));
+        Mockito.verify(todoService, Mockito.never()).getTodosByMonth(any(), any());
+    }
+
+    @Test
+    void streamTodosByMonth_ShouldWriteJsonArray() throws Exception {
+        YearMonth yearMonth = YearMonth.of(2024, 4);
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<TodoResponse> consumer = invocation.getArgument(2);
+            consumer.accept(testTodoResponse);
+            consumer.accept(testTodoResponse);
+            return null;
+        }).when(todoService).streamTodosByMonth(any(), eq(yearMonth), any());
+
+        mockMvc.perform(get("/api/todos/month/{yearMonth}", "2024-04").param("stream", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value(testTodoResponse.getTitle()));
+    }
 }
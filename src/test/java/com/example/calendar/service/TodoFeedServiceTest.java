@@ -0,0 +1,66 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.TodoFeedConfig;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.dto.TodoVersion;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TodoFeedServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private TodoRepository todoRepository;
+    private TodoFeedService todoFeedService;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        TodoFeedConfig feedConfig = new TodoFeedConfig();
+        ReflectionTestUtils.setField(feedConfig, "uidDomain", "calendar.example.com");
+        ReflectionTestUtils.setField(feedConfig, "cacheMaxBytes", 1_048_576L);
+        ReflectionTestUtils.setField(feedConfig, "maxCachedFeedBytes", 65_536);
+        ReflectionTestUtils.setField(feedConfig, "cacheTtl", 3600L);
+        ReflectionTestUtils.setField(feedConfig, "maxCachedTokens", 100L);
+        todoFeedService = new TodoFeedService(todoRepository, mock(UserRepository.class), feedConfig,
+                mock(ApplicationEventPublisher.class));
+
+        when(todoRepository.findActiveVersionByUserId(USER_ID)).thenReturn(new TodoVersion(1, 1_000L));
+        when(todoRepository.streamActiveResponsesByUserId(USER_ID)).thenAnswer(invocation -> Stream.of(
+                TodoResponse.builder().id(1L).title("Feed").dueDate(LocalDate.of(2024, 1, 1)).updatedAt(1_000L).build()));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 렌더링한 본문을 읽은 버전으로 캐시한다")
+    void render_CachesBodyUnderVersion() throws Exception {
+        TodoFeedService.FeedVersion version = todoFeedService.getVersion(USER_ID);
+        todoFeedService.render(USER_ID, version, new ByteArrayOutputStream());
+
+        TodoFeedService.RenderedFeed cached = todoFeedService.getCached(USER_ID);
+        assertNotNull(cached);
+        assertEquals(version.getTodoVersion().getETag(), cached.getETag());
+    }
+
+    @Test
+    @DisplayName("버전을 읽은 뒤 렌더링 전에 커밋된 쓰기가 있으면 새 본문을 이전 ETag로 캐시하지 않는다")
+    void render_SkipsCacheWhenWriteCommittedAfterVersionRead() throws Exception {
+        TodoFeedService.FeedVersion version = todoFeedService.getVersion(USER_ID);
+        todoFeedService.onTodoChanged(new TodoChangedEvent(USER_ID, Set.of()));
+        todoFeedService.render(USER_ID, version, new ByteArrayOutputStream());
+
+        assertNull(todoFeedService.getCached(USER_ID));
+    }
+}
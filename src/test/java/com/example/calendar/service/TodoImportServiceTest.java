@@ -0,0 +1,86 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.TodoImportConfig;
+import com.example.calendar.domain.Todo;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.TodoImportEvent;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TodoImportServiceTest {
+
+    private TodoRepository todoRepository;
+    private TodoImportService todoImportService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+        TodoImportConfig importConfig = new TodoImportConfig();
+        ReflectionTestUtils.setField(importConfig, "batchSize", 500);
+        ReflectionTestUtils.setField(importConfig, "maxLineLength", 1024);
+
+        todoImportService = new TodoImportService(todoRepository, mock(UserRepository.class), transactionTemplate,
+                mock(ApplicationEventPublisher.class), importConfig);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 한 건씩 다시 저장해 실패한 항목만 거절한다")
+    void importCalendar_RejectsOnlyTheItemThatFails() throws Exception {
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> {
+            Todo todo = invocation.getArgument(0);
+            if ("Broken".equals(todo.getTitle())) {
+                throw new DataIntegrityViolationException("rejected by the database");
+            }
+            return todo;
+        });
+        String ics = "BEGIN:VCALENDAR\r\n"
+                + todo("a", "First")
+                + todo("b", "Broken")
+                + todo("c", "Third")
+                + "END:VCALENDAR\r\n";
+
+        List<TodoImportEvent> events = new ArrayList<>();
+        todoImportService.importCalendar(new UserPrincipal(1L, "import@example.com", null, List.of()),
+                new ByteArrayInputStream(ics.getBytes(StandardCharsets.UTF_8)), events::add);
+
+        List<TodoImportEvent> errors = new ArrayList<>();
+        events.stream().filter(event -> TodoImportEvent.ERROR.equals(event.getType())).forEach(errors::add);
+        assertEquals(1, errors.size());
+        assertEquals(2, errors.get(0).getIndex());
+        assertEquals("b", errors.get(0).getUid());
+
+        TodoImportEvent completed = events.get(events.size() - 1);
+        assertEquals(TodoImportEvent.COMPLETED, completed.getType());
+        assertEquals(2L, completed.getImported());
+        assertEquals(1L, completed.getRejected());
+    }
+
+    private static String todo(String uid, String summary) {
+        return "BEGIN:VTODO\r\nUID:" + uid + "\r\nSUMMARY:" + summary + "\r\nEND:VTODO\r\n";
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.calendar.service;
+
+import com.example.calendar.domain.Todo;
+import com.example.calendar.domain.User;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "todo.purge.retention-days=30",
+        "todo.purge.batch-size=2",
+        "todo.purge.pause-millis=0"
+})
+@ActiveProfiles("test")
+@Transactional
+class TodoPurgeServiceTest {
+
+    @Autowired
+    private TodoPurgeService todoPurgeService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("보존 기간이 지난 소프트 삭제 할 일만 여러 배치에 걸쳐 영구 삭제한다")
+    void purge_DeletesOnlyExpiredSoftDeletedTodos() {
+        User user = userRepository.save(User.builder()
+                .email("purge@example.com")
+                .password("password")
+                .build());
+        long expired = System.currentTimeMillis() - Duration.ofDays(31).toMillis();
+        Long[] expiredIds = {
+                save(user, true, expired), save(user, true, expired), save(user, true, expired)};
+        Long recentlyDeleted = save(user, true, System.currentTimeMillis());
+        Long oldButLive = save(user, false, expired);
+        entityManager.clear();
+
+        assertEquals(3, todoPurgeService.purge());
+
+        for (Long id : expiredIds) {
+            assertTrue(todoRepository.findById(id).isEmpty());
+        }
+        assertTrue(todoRepository.findById(recentlyDeleted).isPresent());
+        assertTrue(todoRepository.findById(oldButLive).isPresent());
+    }
+
+    private Long save(User user, boolean deleted, long updatedAt) {
+        Todo todo = Todo.builder()
+                .user(user)
+                .title("Purge")
+                .build();
+        todo.setDeleteFlag(deleted);
+        Long id = todoRepository.saveAndFlush(todo).getId();
+        // @PreUpdate가 덮어쓰지 않도록 벌크 UPDATE로 삭제 시각을 과거로 돌린다
+        entityManager.createQuery("update Todo t set t.updatedAt = :updatedAt where t.id = :id")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", id)
+                .executeUpdate();
+        return id;
+    }
+}
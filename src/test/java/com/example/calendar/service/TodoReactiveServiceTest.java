@@ -0,0 +1,106 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.CacheConfig;
+import com.example.calendar.domain.User;
+import com.example.calendar.dto.TodoRequest;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.store.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 마이그레이션 스키마 위에서 같은 할 일을 JPA 조회와 R2DBC 조회로 각각 읽어 응답 JSON이 같은지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "todo.reactive.enabled=true",
+        "todo.purge.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class TodoReactiveServiceTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("todo.reactive.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + POSTGRES.getDatabaseName());
+    }
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoReactiveService todoReactiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("같은 할 일은 서블릿 조회와 리액티브 조회에서 같은 JSON으로 내려간다")
+    void reactiveResponsesMatchServletResponses() throws Exception {
+        userRepository.save(User.builder()
+                .email("reactive@example.com")
+                .password("password")
+                .build());
+        UserDetails userDetails = userDetailsService.loadUserByUsername("reactive@example.com");
+        YearMonth month = YearMonth.now();
+        LocalDate date = month.atDay(1);
+
+        TodoRequest request = new TodoRequest();
+        request.setTitle("Compare");
+        request.setDescription("Same todo, both paths");
+        request.setDueDate(date);
+        TodoResponse created = todoService.createTodo(userDetails, request);
+
+        // 두 조회가 월 캐시를 공유하므로 각자 DB에서 읽도록 매번 비운다
+        clearMonths();
+        List<TodoResponse> servletMonth = todoService.getTodosByMonth(userDetails, month);
+        clearMonths();
+        List<TodoResponse> reactiveMonth = todoReactiveService.getTodosByMonth(userDetails, month).block();
+
+        assertEquals(1, servletMonth.size());
+        assertEquals(created.getUpdatedAt(), servletMonth.get(0).getUpdatedAt());
+        assertEquals(json(servletMonth), json(reactiveMonth));
+        assertEquals(json(todoService.getTodos(userDetails, null, 10).getItems()),
+                json(todoReactiveService.getTodos(userDetails, null, 10).block().getItems()));
+    }
+
+    private void clearMonths() {
+        cacheManager.getCache(CacheConfig.TODO_MONTHS).clear();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
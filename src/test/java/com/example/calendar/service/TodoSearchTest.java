@@ -0,0 +1,104 @@
+package com.example.calendar.service;
+
+import com.example.calendar.domain.Todo;
+import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.TodoPage;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.exception.BadRequestException;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TodoSearchTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoSearchEngine todoSearchEngine;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private UserPrincipal principal;
+    private Todo meeting;
+    private Todo research;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("search@example.com")
+                .password("password")
+                .build());
+        meeting = save(user, "회의 준비", "자료 정리", false);
+        research = save(user, "자료 조사", "회의록 참고", false);
+        save(user, "운동", null, false);
+        save(user, "회의 취소", null, true);
+        principal = new UserPrincipal(user.getId(), user.getEmail(), null, List.of("ROLE_USER"));
+    }
+
+    @Test
+    @DisplayName("테스트 프로필은 메모리 역색인 구현을 쓴다")
+    void usesInMemoryEngine() {
+        assertTrue(todoSearchEngine instanceof InMemoryTodoSearchEngine);
+    }
+
+    @Test
+    @DisplayName("접두어로 일치하고 제목 일치가 설명 일치보다 앞서며 삭제된 할 일은 빠진다")
+    void search_RanksTitleMatchesFirst() {
+        TodoPage page = todoService.searchTodos(principal, "회의", null, null);
+
+        assertEquals(List.of(meeting.getId(), research.getId()), ids(page.getItems()));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("모든 단어가 들어 있는 할 일만 찾고 커서로 다음 페이지를 이어 읽는다")
+    void search_MatchesAllTermsAndPages() {
+        TodoPage first = todoService.searchTodos(principal, "자료, 회의", null, 1);
+        TodoPage second = todoService.searchTodos(principal, "자료, 회의", first.getNextCursor(), 1);
+
+        assertEquals(List.of(meeting.getId()), ids(first.getItems()));
+        assertEquals(List.of(research.getId()), ids(second.getItems()));
+        assertNull(second.getNextCursor());
+        assertTrue(todoService.searchTodos(principal, "운동 자료", null, null).getItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("단어가 없는 검색어는 거부한다")
+    void search_RejectsEmptyQuery() {
+        assertThrows(BadRequestException.class, () -> todoService.searchTodos(principal, " ,. ", null, null));
+    }
+
+    private Todo save(User user, String title, String description, boolean deleted) {
+        Todo todo = Todo.builder()
+                .user(user)
+                .title(title)
+                .description(description)
+                .build();
+        todo.setDeleteFlag(deleted);
+        return todoRepository.save(todo);
+    }
+
+    private static List<Long> ids(List<TodoResponse> todos) {
+        return todos.stream().map(TodoResponse::getId).collect(Collectors.toList());
+    }
+}
@@ -86,7 +86,7 @@ class TodoServiceIntegrationTest {
         todoService.createTodo(userDetails, request2);
 
         // when
-        List<TodoResponse> todos = todoService.getTodos(userDetails);
+        List<TodoResponse> todos = todoService.getTodos(userDetails, null, null).getItems();
 
         // then
         assertEquals(2, todos.size());
@@ -5,7 +5,6 @@ import com.example.calendar.domain.User;
 import com.example.calendar.dto.TodoRequest;
 import com.example.calendar.dto.TodoResponse;
 import com.example.calendar.exception.NotFoundException;
-import com.example.calendar.exception.UnauthorizedException;
 import com.example.calendar.store.TodoRepository;
 import com.example.calendar.store.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDate;
@@ -23,6 +23,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +35,9 @@ class TodoServiceMockTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -88,17 +92,22 @@ class TodoServiceMockTest {
     void getTodosWithMock() {
         // given
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findByUser(any(User.class))).thenReturn(List.of(todo));
+        when(todoRepository.findDatedPage(any(), any())).thenReturn(List.of(TodoResponse.builder()
+                .id(todo.getId())
+                .title(todo.getTitle())
+                .dueDate(todo.getDueDate())
+                .build()));
+        when(todoRepository.findUndatedPageAfter(any(), anyLong(), any())).thenReturn(List.of());
 
         // when
-        List<TodoResponse> responses = todoService.getTodos(userDetails);
+        List<TodoResponse> responses = todoService.getTodos(userDetails, null, null).getItems();
 
         // then
         assertNotNull(responses);
         assertEquals(1, responses.size());
         assertEquals("Test Todo", responses.get(0).getTitle());
         verify(userRepository, times(1)).findByEmail(anyString());
-        verify(todoRepository, times(1)).findByUser(any(User.class));
+        verify(todoRepository, times(1)).findDatedPage(any(), any());
     }
 
     @Test
@@ -117,21 +126,12 @@ class TodoServiceMockTest {
     @DisplayName("Mock을 사용한 권한 검사 테스트")
     void testAuthorizationWithMock() {
         // given
-        User otherUser = User.builder()
-                .email("other@example.com")
-                .build();
-
-        Todo otherTodo = Todo.builder()
-                .id(1L)
-                .user(otherUser)
-                .build();
-
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.of(otherTodo));
+        when(todoRepository.findByIdAndUserId(eq(1L), any())).thenReturn(Optional.empty());
 
         // when & then
-        assertThrows(UnauthorizedException.class, () -> {
+        assertThrows(NotFoundException.class, () -> {
             todoService.getTodo(userDetails, 1L);
         });
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.example.calendar.service;
+
+import com.example.calendar.domain.Todo;
+import com.example.calendar.domain.TodoSeries;
+import com.example.calendar.domain.User;
+import com.example.calendar.domain.UserPrincipal;
+import com.example.calendar.dto.DailyTodoSummary;
+import com.example.calendar.dto.TodoRequest;
+import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.store.TodoRepository;
+import com.example.calendar.store.TodoSeriesRepository;
+import com.example.calendar.store.UserRepository;
+import com.example.calendar.support.SelectCountingStatementInspector;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.calendar.support.SelectCountingStatementInspector")
+@ActiveProfiles("test")
+@Transactional
+class TodoServiceQueryCountTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoSeriesRepository todoSeriesRepository;
+
+    private User user;
+    private UserPrincipal principal;
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("count@example.com")
+                .password("password")
+                .build());
+
+        Todo todo = todoRepository.save(Todo.builder()
+                .user(user)
+                .title("Counted Todo")
+                .dueDate(LocalDate.now())
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        principal = new UserPrincipal(user.getId(), user.getEmail(), null, List.of("ROLE_USER"));
+        todoId = todo.getId();
+        SelectCountingStatementInspector.reset();
+    }
+
+    @Test
+    @DisplayName("할 일 조회는 SELECT 한 번으로 끝난다")
+    void getTodo_IssuesSingleSelect() {
+        todoService.getTodo(principal, todoId);
+        entityManager.flush();
+
+        assertEquals(1, SelectCountingStatementInspector.getSelectCount());
+    }
+
+    @Test
+    @DisplayName("할 일 수정은 SELECT 한 번으로 끝난다")
+    void updateTodo_IssuesSingleSelect() {
+        TodoRequest request = new TodoRequest();
+        request.setTitle("Updated");
+        request.setDueDate(LocalDate.now());
+
+        todoService.updateTodo(principal, todoId, request);
+        entityManager.flush();
+
+        assertEquals(1, SelectCountingStatementInspector.getSelectCount());
+    }
+
+    @Test
+    @DisplayName("할 일 삭제는 SELECT 한 번으로 끝난다")
+    void deleteTodo_IssuesSingleSelect() {
+        todoService.deleteTodo(principal, todoId);
+        entityManager.flush();
+
+        assertEquals(1, SelectCountingStatementInspector.getSelectCount());
+    }
+
+    @Test
+    @DisplayName("할 일 복원은 SELECT 한 번으로 끝난다")
+    void restoreTodo_IssuesSingleSelect() {
+        todoService.restoreTodo(principal, todoId);
+        entityManager.flush();
+
+        assertEquals(1, SelectCountingStatementInspector.getSelectCount());
+    }
+
+    @Test
+    @DisplayName("월별 조회는 영속성 컨텍스트에 엔티티를 남기지 않는다")
+    void getTodosByMonth_LeavesPersistenceContextEmpty() {
+        assertEquals(1, todoService.getTodosByMonth(principal, YearMonth.now()).size());
+
+        // 할 일 + 구간에 걸친 시리즈 (시리즈가 없으면 재정의는 읽지 않는다)
+        assertEquals(2, SelectCountingStatementInspector.getSelectCount());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    @DisplayName("반복 시리즈의 발생일은 엔티티 없이 전개되어 월별 조회에 합쳐진다")
+    void getTodosByMonth_MergesSeriesOccurrences() {
+        YearMonth month = YearMonth.now();
+        todoSeriesRepository.save(TodoSeries.builder()
+                .user(user)
+                .title("Daily")
+                .rrule("FREQ=DAILY")
+                .startDate(month.atDay(1))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        SelectCountingStatementInspector.reset();
+
+        List<TodoResponse> todos = todoService.getTodosByMonth(principal, month);
+
+        assertEquals(1 + month.lengthOfMonth(), todos.size());
+        assertEquals(3, SelectCountingStatementInspector.getSelectCount());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        for (int i = 1; i < todos.size(); i++) {
+            assertFalse(todos.get(i).getDueDate().isBefore(todos.get(i - 1).getDueDate()));
+        }
+    }
+
+    @Test
+    @DisplayName("월별 요약은 날짜별로 집계된 한 행씩을 데이터베이스에서 가져온다")
+    void getMonthSummary_AggregatesInDatabase() {
+        List<DailyTodoSummary> summary = todoService.getMonthSummary(principal, YearMonth.now());
+
+        assertEquals(2, SelectCountingStatementInspector.getSelectCount());
+        assertEquals(1, summary.size());
+        assertEquals(LocalDate.now(), summary.get(0).getDate());
+        assertEquals(1, summary.get(0).getTotal());
+        assertEquals(0, summary.get(0).getCompleted());
+        assertEquals(0, summary.get(0).getOverdue());
+    }
+
+    @Test
+    @DisplayName("일괄 생성의 INSERT는 JDBC 배치로 묶인다")
+    void createTodos_BatchesInserts() {
+        List<TodoRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            TodoRequest request = new TodoRequest();
+            request.setTitle("Bulk " + i);
+            request.setDueDate(LocalDate.now());
+            requests.add(request);
+        }
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        todoService.createTodos(principal, requests);
+        entityManager.flush();
+
+        // IDENTITY였다면 INSERT만 120번 준비된다. 50건씩 묶이면 INSERT 3번과 블록마다의 시퀀스 조회뿐이다
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+        assertEquals(121, todoRepository.count());
+    }
+}
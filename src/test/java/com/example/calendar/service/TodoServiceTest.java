@@ -2,29 +2,47 @@ package com.example.calendar.service;
 
 import com.example.calendar.domain.Todo;
 import com.example.calendar.domain.User;
+import com.example.calendar.dto.BulkItemResult;
+import com.example.calendar.dto.ChangeToken;
+import com.example.calendar.dto.TodoChange;
+import com.example.calendar.dto.TodoChanges;
+import com.example.calendar.dto.TodoCursor;
+import com.example.calendar.dto.TodoPage;
 import com.example.calendar.dto.TodoRequest;
 import com.example.calendar.dto.TodoResponse;
+import com.example.calendar.exception.GoneException;
 import com.example.calendar.exception.NotFoundException;
-import com.example.calendar.exception.UnauthorizedException;
 import com.example.calendar.store.TodoRepository;
 import com.example.calendar.store.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +57,24 @@ class TodoServiceTest {
     @Mock
     private UserDetails userDetails;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private TodoSeriesService todoSeriesService;
+
+    @Mock
+    private TodoSearchEngine todoSearchEngine;
+
+    @Mock
+    private TodoPurgeService todoPurgeService;
+
+    @Spy
+    private TodoViewCache todoViewCache = new TodoViewCache(new NoOpCacheManager(), new SimpleMeterRegistry());
+
     @InjectMocks
     private TodoService todoService;
 
@@ -85,11 +121,42 @@ class TodoServiceTest {
         verify(todoRepository).save(any(Todo.class));
     }
 
+    @Test
+    @DisplayName("일괄 생성은 사용자를 한 번만 찾고 잘못된 항목은 건너뛰며 항목별 결과를 돌려준다")
+    void createTodos_ReportsPerItemStatus() {
+        TodoRequest invalid = new TodoRequest();
+        invalid.setDescription("Missing title");
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoRepository.save(any(Todo.class))).thenReturn(todo);
+
+        List<BulkItemResult> results = todoService.createTodos(userDetails, List.of(todoRequest, invalid));
+
+        assertEquals(2, results.size());
+        assertEquals(201, results.get(0).getStatus());
+        assertEquals(400, results.get(1).getStatus());
+        assertEquals("Title is required", results.get(1).getMessage());
+        verify(userRepository, times(1)).findByEmail(anyString());
+        verify(todoRepository, times(1)).save(any(Todo.class));
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 소유하지 않은 할 일을 404로 표시한다")
+    void deleteTodos_MarksMissingTodosNotFound() {
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoRepository.findByUserIdAndIdIn(eq(1L), any())).thenReturn(List.of(todo));
+
+        List<BulkItemResult> results = todoService.deleteTodos(userDetails, List.of(1L, 99L));
+
+        assertEquals(200, results.get(0).getStatus());
+        assertEquals(404, results.get(1).getStatus());
+        assertTrue(todo.isDeleteFlag());
+    }
+
     @Test
     @DisplayName("할 일 조회 테스트")
     void getTodo() {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.of(todo));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(todo));
 
         TodoResponse response = todoService.getTodo(userDetails, 1L);
 
@@ -107,7 +174,7 @@ class TodoServiceTest {
         request.setCompleted(true);
 
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.of(todo));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(todo));
 
         TodoResponse response = todoService.updateTodo(userDetails, 1L, request);
 
@@ -115,22 +182,57 @@ class TodoServiceTest {
         assertEquals("Updated Todo", response.getTitle());
         assertTrue(response.isCompleted());
         verify(userRepository, times(1)).findByEmail(anyString());
-        verify(todoRepository, times(1)).findById(anyLong());
+        verify(todoRepository, times(1)).findByIdAndUserId(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("마감일을 옮기면 이전 달과 새 달을 모두 무효화 대상으로 알린다")
+    void updateTodo_PublishesPreviousAndNewMonth() {
+        LocalDate previous = LocalDate.of(2024, 1, 31);
+        todo.setDueDate(previous);
+        TodoRequest request = new TodoRequest();
+        request.setTitle("Moved Todo");
+        request.setDueDate(LocalDate.of(2024, 2, 1));
+
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(todo));
+
+        todoService.updateTodo(userDetails, 1L, request);
+
+        ArgumentCaptor<TodoChangedEvent> event = ArgumentCaptor.forClass(TodoChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().getUserId());
+        assertEquals(Set.of(YearMonth.of(2024, 1), YearMonth.of(2024, 2)), event.getValue().getMonths());
     }
 
     @Test
     @DisplayName("할 일 삭제 테스트")
     void deleteTodo() {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.of(todo));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(todo));
 
         todoService.deleteTodo(userDetails, 1L);
 
         verify(userRepository, times(1)).findByEmail(anyString());
-        verify(todoRepository, times(1)).findById(anyLong());
+        verify(todoRepository, times(1)).findByIdAndUserId(1L, 1L);
         verify(todoRepository, times(1)).delete(any(Todo.class));
     }
 
+    @Test
+    @DisplayName("삭제된 할 일은 복원 전까지 수정되지 않고 다시 삭제해도 updatedAt이 바뀌지 않는다")
+    void deletedTodo_IsNotModified() {
+        todo.softDelete();
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(todo));
+
+        assertThrows(NotFoundException.class, () -> todoService.updateTodo(userDetails, 1L, todoRequest));
+        todoService.deleteTodo(userDetails, 1L);
+
+        assertEquals("Test Todo", todo.getTitle());
+        verify(todoRepository, never()).save(any(Todo.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
     @Test
     @DisplayName("할 일 조회 실패 테스트 - 사용자 없음")
     void getTodo_UserNotFound() {
@@ -141,44 +243,141 @@ class TodoServiceTest {
     }
 
     @Test
-    @DisplayName("할 일 조회 실패 테스트 - 권한 없음")
-    void getTodo_Unauthorized() {
-        User otherUser = User.builder()
-                .id(2L)
-                .email("other@example.com")
-                .password("password")
-                .build();
-
-        Todo otherTodo = Todo.builder()
-                .id(1L)
-                .user(otherUser)
-                .title("Other Todo")
-                .build();
-
+    @DisplayName("할 일 조회 실패 테스트 - 다른 사용자의 할 일")
+    void getTodo_OwnedByOtherUser() {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.of(otherTodo));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.empty());
 
-        assertThrows(UnauthorizedException.class, () -> 
+        assertThrows(NotFoundException.class, () -> 
             todoService.getTodo(userDetails, 1L));
     }
 
     @Test
     void getTodos_Success() {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findByUser(user)).thenReturn(List.of(todo));
+        when(todoRepository.findDatedPage(eq(1L), any(Pageable.class))).thenReturn(List.of(toResponse(todo)));
+        when(todoRepository.findUndatedPageAfter(eq(1L), eq(0L), any(Pageable.class))).thenReturn(List.of());
 
-        List<TodoResponse> responses = todoService.getTodos(userDetails);
+        TodoPage page = todoService.getTodos(userDetails, null, null);
+        List<TodoResponse> responses = page.getItems();
 
         assertNotNull(responses);
         assertEquals(1, responses.size());
         assertEquals(todo.getTitle(), responses.get(0).getTitle());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 항목 뒤를 가리키는 커서를 돌려준다")
+    void getTodos_ReturnsCursorWhenMoreRowsExist() {
+        Todo next = Todo.builder()
+                .id(2L)
+                .user(user)
+                .title("Next Todo")
+                .dueDate(todo.getDueDate())
+                .build();
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoRepository.findDatedPage(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(toResponse(todo), toResponse(next)));
+
+        TodoPage page = todoService.getTodos(userDetails, null, 1);
+
+        assertEquals(1, page.getItems().size());
+        TodoCursor cursor = TodoCursor.decode(page.getNextCursor());
+        assertEquals(todo.getDueDate(), cursor.getDueDate());
+        assertEquals(1L, cursor.getId());
+    }
+
+    @Test
+    @DisplayName("커서 이후의 할 일만 조회한다")
+    void getTodos_ContinuesAfterCursor() {
+        LocalDate dueDate = LocalDate.now();
+        String cursor = new TodoCursor(dueDate, 1L).encode();
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoRepository.findDatedPageAfter(eq(1L), eq(dueDate), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(todoRepository.findUndatedPageAfter(eq(1L), eq(0L), any(Pageable.class))).thenReturn(List.of());
+
+        TodoPage page = todoService.getTodos(userDetails, cursor, null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("변경 내역은 삭제된 할 일을 툼스톤으로 담고 마지막 변경을 가리키는 토큰을 돌려준다")
+    void getChanges_ReturnsTombstonesAndHighWaterMark() {
+        String since = new ChangeToken(1_000L, 1L).encode();
+        TodoChange updated = new TodoChange(2L, UUID.randomUUID(), "Updated", "desc", LocalDate.now(),
+                true, false, 2_000L);
+        TodoChange deleted = new TodoChange(3L, UUID.randomUUID(), "Deleted", "desc", LocalDate.now(),
+                false, true, 3_000L);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoRepository.findChangesAfter(eq(1L), eq(1_000L), eq(1L), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(updated, deleted));
+
+        TodoChanges changes = todoService.getChanges(userDetails, since, null);
+
+        assertEquals(2, changes.getChanges().size());
+        assertFalse(changes.isHasMore());
+        assertTrue(changes.getChanges().get(1).isDeleted());
+        assertNull(changes.getChanges().get(1).getTitle());
+        ChangeToken next = ChangeToken.decode(changes.getNextToken());
+        assertEquals(3_000L, next.getUpdatedAt());
+        assertEquals(3L, next.getId());
+    }
+
+    @Test
+    @DisplayName("정리 보존 기간보다 오래된 동기화 토큰은 410으로 전체 동기화를 요구한다")
+    void getChanges_RejectsTokensOlderThanPurgeHorizon() {
+        String since = new ChangeToken(1_000L, 1L).encode();
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoPurgeService.getHorizonMillis()).thenReturn(2_000L);
+
+        assertThrows(GoneException.class, () -> todoService.getChanges(userDetails, since, null));
+        verify(todoRepository, never()).findChangesAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보존 기간보다 오래된 할 일만 있어도 첫 동기화는 여러 페이지에 걸쳐 끝까지 받는다")
+    void getChanges_FullSyncPagesThroughRowsOlderThanRetention() {
+        long old = System.currentTimeMillis() - Duration.ofDays(60).toMillis();
+        long horizon = System.currentTimeMillis() - Duration.ofDays(30).toMillis();
+        TodoChange first = new TodoChange(1L, UUID.randomUUID(), "First", null, null, false, false, old);
+        TodoChange second = new TodoChange(2L, UUID.randomUUID(), "Second", null, null, false, true, old + 1);
+        TodoChange third = new TodoChange(3L, UUID.randomUUID(), "Third", null, null, true, false, old + 2);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(todoPurgeService.getHorizonMillis()).thenReturn(horizon);
+        when(todoRepository.findChangesAfter(eq(1L), eq(0L), eq(0L), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(todoRepository.findChangesAfter(eq(1L), eq(old), eq(1L), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(second, third));
+        when(todoRepository.findChangesAfter(eq(1L), eq(old + 1), eq(2L), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(third));
+        when(todoRepository.findChangesAfter(eq(1L), eq(old + 2), eq(3L), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        TodoChanges page1 = todoService.getChanges(userDetails, null, 1);
+        TodoChanges page2 = todoService.getChanges(userDetails, page1.getNextToken(), 1);
+        TodoChanges page3 = todoService.getChanges(userDetails, page2.getNextToken(), 1);
+
+        assertTrue(page1.isHasMore());
+        assertTrue(page2.isHasMore());
+        assertFalse(page3.isHasMore());
+        assertEquals(3L, page3.getChanges().get(0).getId());
+        // 끝까지 받은 토큰은 위치가 오래된 행을 가리켜도 다음 증분 동기화에서 거절되지 않는다
+        ChangeToken completed = ChangeToken.decode(page3.getNextToken());
+        assertEquals(old + 2, completed.getUpdatedAt());
+        assertTrue(completed.getSyncedAt() > horizon);
+        assertTrue(todoService.getChanges(userDetails, page3.getNextToken(), 1).getChanges().isEmpty());
     }
 
     @Test
     void getTodosByDate_Success() {
         LocalDate date = LocalDate.now();
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findByUserAndDueDate(user, date)).thenReturn(List.of(todo));
+        when(todoRepository.findResponsesByUserIdAndDueDateBetween(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(toResponse(todo)));
 
         List<TodoResponse> responses = todoService.getTodosByDate(userDetails, date);
 
@@ -191,8 +390,8 @@ class TodoServiceTest {
     void getTodosByMonth_Success() {
         YearMonth yearMonth = YearMonth.now();
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(todoRepository.findByUserAndDueDateBetween(any(User.class), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(List.of(todo));
+        when(todoRepository.findResponsesByUserIdAndDueDateBetween(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(toResponse(todo)));
 
         List<TodoResponse> responses = todoService.getTodosByMonth(userDetails, yearMonth);
 
@@ -200,4 +399,14 @@ class TodoServiceTest {
         assertEquals(1, responses.size());
         assertEquals(todo.getTitle(), responses.get(0).getTitle());
     }
+
+    private TodoResponse toResponse(Todo todo) {
+        return TodoResponse.builder()
+                .id(todo.getId())
+                .title(todo.getTitle())
+                .description(todo.getDescription())
+                .dueDate(todo.getDueDate())
+                .completed(todo.isCompleted())
+                .build();
+    }
 } 
\ No newline at end of file
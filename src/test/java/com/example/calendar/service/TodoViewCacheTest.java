@@ -0,0 +1,100 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.CacheConfig;
+import com.example.calendar.dto.TodoResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoViewCacheTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2024, 2);
+
+    private TodoViewCache todoViewCache;
+    private MeterRegistry meterRegistry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        todoViewCache = new TodoViewCache(new CaffeineCacheManager(CacheConfig.TODO_MONTHS), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 월은 한 번만 읽고 일별 조회도 월 항목에서 걸러 낸다")
+    void getDate_ServedFromMonthEntry() {
+        todoViewCache.getMonth(1L, JANUARY, loader());
+        List<TodoResponse> day = todoViewCache.getDate(1L, LocalDate.of(2024, 1, 2), loader());
+
+        assertEquals(1, loads.get());
+        assertEquals(1, day.size());
+        assertEquals(2L, day.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("변경된 월만 무효화하고 무효화 횟수를 기록한다")
+    void onTodoChanged_EvictsOnlyChangedMonths() {
+        todoViewCache.getMonth(1L, JANUARY, loader());
+        todoViewCache.getMonth(1L, FEBRUARY, loader());
+        todoViewCache.getMonth(2L, JANUARY, loader());
+
+        todoViewCache.onTodoChanged(new TodoChangedEvent(1L, Set.of(JANUARY)));
+        todoViewCache.getMonth(1L, JANUARY, loader());
+        todoViewCache.getMonth(1L, FEBRUARY, loader());
+        todoViewCache.getMonth(2L, JANUARY, loader());
+
+        assertEquals(4, loads.get());
+        assertEquals(1.0, meterRegistry.counter("todo.view.cache.invalidations").count());
+    }
+
+    @Test
+    @DisplayName("읽는 도중 커밋된 쓰기가 무효화하면 읽은 목록은 캐시에 남지 않는다")
+    void getMonth_DiscardsLoadThatRacedWithEviction() {
+        List<TodoResponse> loaded = todoViewCache.getMonth(1L, JANUARY, () -> {
+            List<TodoResponse> beforeCommit = loader().get();
+            todoViewCache.onTodoChanged(new TodoChangedEvent(1L, Set.of(JANUARY)));
+            return beforeCommit;
+        });
+        todoViewCache.getMonth(1L, JANUARY, loader());
+
+        assertEquals(2, loaded.size());
+        assertEquals(2, loads.get());
+        assertNotNull(todoViewCache.peekMonth(1L, JANUARY));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 쓰기는 진행 중인 읽기를 버리게 하지 않는다")
+    void getMonth_KeepsLoadWhenAnotherUserWrites() {
+        todoViewCache.getMonth(1L, JANUARY, () -> {
+            List<TodoResponse> loaded = loader().get();
+            todoViewCache.onTodoChanged(new TodoChangedEvent(2L, Set.of(JANUARY)));
+            return loaded;
+        });
+        todoViewCache.getMonth(1L, JANUARY, loader());
+
+        assertEquals(1, loads.get());
+    }
+
+    private Supplier<List<TodoResponse>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(
+                    TodoResponse.builder().id(1L).dueDate(LocalDate.of(2024, 1, 1)).build(),
+                    TodoResponse.builder().id(2L).dueDate(LocalDate.of(2024, 1, 2)).build());
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.calendar.service;
+
+import com.example.calendar.config.JwtConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "revocationExpectedInsertions", 1000L);
+        ReflectionTestUtils.setField(jwtConfig, "revocationFalsePositiveRate", 0.01);
+        tokenRevocationList = new TokenRevocationList(jwtConfig);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기된 것으로 판단한다")
+    void revoke_MarksOnlyRevokedTokens() {
+        String revoked = UUID.randomUUID().toString();
+        tokenRevocationList.revoke(revoked, System.currentTimeMillis() + 60_000);
+
+        assertTrue(tokenRevocationList.isRevoked(revoked));
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(tokenRevocationList.isRevoked(UUID.randomUUID().toString()));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 동시에 폐기하면 한 호출만 새로 폐기한 것으로 본다")
+    void revoke_ConcurrentReplayIsAcceptedOnce() throws Exception {
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return tokenRevocationList.revoke(tokenId, expiresAt);
+                }));
+            }
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    accepted++;
+                }
+            }
+            assertEquals(1, accepted);
+            assertTrue(tokenRevocationList.isRevoked(tokenId));
+            assertFalse(tokenRevocationList.revoke(tokenId, expiresAt));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 폐기 항목은 정리된다")
+    void purgeExpired_RemovesExpiredEntries() {
+        String live = UUID.randomUUID().toString();
+        String expiring = UUID.randomUUID().toString();
+        tokenRevocationList.revoke(live, System.currentTimeMillis() + 60_000);
+        tokenRevocationList.revoke(expiring, System.currentTimeMillis() + 1);
+
+        await(5);
+        tokenRevocationList.purgeExpired();
+
+        assertEquals(1, tokenRevocationList.size());
+        assertTrue(tokenRevocationList.isRevoked(live));
+        assertFalse(tokenRevocationList.isRevoked(expiring));
+    }
+
+    private static void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.calendar.store;
+
+import com.example.calendar.domain.Todo;
+import com.example.calendar.domain.User;
+import com.example.calendar.dto.TodoChange;
+import com.example.calendar.dto.TodoVersion;
+import com.example.calendar.support.SelectCountingStatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 마이그레이션으로 만든 스키마 위에서 TodoRepository 쿼리의 실행 계획과 컬럼 타입을 확인한다.
+ * 컨텍스트가 뜬다는 것 자체가 {@code ddl-auto: validate}를 통과했다는 뜻이다. 빈 테이블에서도 인덱스 사용 여부를 판단할 수 있도록 seq scan을 끄고 일반 계획(GENERIC_PLAN)을 본다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.calendar.support.SelectCountingStatementInspector",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class TodoRepositoryIndexUsageTest {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("explain@example.com")
+                .password("password")
+                .build());
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("모든 TodoRepository 조회 쿼리는 todos 테이블을 인덱스로 읽는다")
+    void everyQueryUsesAnIndex() {
+        Long userId = user.getId();
+        LocalDate today = LocalDate.now();
+        Pageable limit = PageRequest.of(0, 100);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByIdAndUserId", () -> todoRepository.findByIdAndUserId(1L, userId));
+        queries.put("findByUserIdAndIdIn", () -> todoRepository.findByUserIdAndIdIn(userId, List.of(1L, 2L)));
+        queries.put("findDatedPage", () -> todoRepository.findDatedPage(userId, limit));
+        queries.put("findDatedPageAfter", () -> todoRepository.findDatedPageAfter(userId, today, 1L, limit));
+        queries.put("findUndatedPageAfter", () -> todoRepository.findUndatedPageAfter(userId, 0L, limit));
+        queries.put("findDeletedDatedPage", () -> todoRepository.findDeletedDatedPage(userId, limit));
+        queries.put("findDeletedDatedPageAfter",
+                () -> todoRepository.findDeletedDatedPageAfter(userId, today, 1L, limit));
+        queries.put("findDeletedUndatedPageAfter",
+                () -> todoRepository.findDeletedUndatedPageAfter(userId, 0L, limit));
+        queries.put("findResponsesByUserIdAndDueDateBetween",
+                () -> todoRepository.findResponsesByUserIdAndDueDateBetween(userId, today, today.plusDays(30)));
+        queries.put("findChangesAfter", () -> todoRepository.findChangesAfter(
+                userId, 0L, 0L, System.currentTimeMillis(), limit));
+        queries.put("findActiveVersionByUserId", () -> todoRepository.findActiveVersionByUserId(userId));
+        queries.put("findVersionByUserIdAndDueDateBetween",
+                () -> todoRepository.findVersionByUserIdAndDueDateBetween(userId, today, today.plusDays(30)));
+        queries.put("summarizeByUserIdAndDueDateBetween", () -> todoRepository.summarizeByUserIdAndDueDateBetween(
+                userId, today, today.plusDays(30), today));
+        queries.put("searchIds", () -> todoRepository.searchIds(userId, "회의:* & 준비:*", 21, 0));
+        queries.put("findResponsesByUserIdAndIdIn",
+                () -> todoRepository.findResponsesByUserIdAndIdIn(userId, List.of(1L, 2L)));
+        queries.put("streamActiveResponsesByUserId",
+                () -> todoRepository.streamActiveResponsesByUserId(userId).close());
+        queries.put("streamActiveByUserId", () -> todoRepository.streamActiveByUserId(userId).close());
+        queries.put("streamDeletedByUserId", () -> todoRepository.streamDeletedByUserId(userId).close());
+        queries.put("streamActiveByUserIdAndDueDateBetween", () -> todoRepository
+                .streamActiveByUserIdAndDueDateBetween(userId, today, today.plusDays(30)).close());
+        queries.put("findPurgeableIds", () -> todoRepository.findPurgeableIds(
+                System.currentTimeMillis(), 0L, PageRequest.of(0, 500)));
+
+        List<Executable> assertions = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            String plan = explain(capture(query));
+            assertions.add(() -> assertFalse(plan.contains("Seq Scan on todos"), name + " plan:\n" + plan));
+        });
+        assertAll(assertions);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 스키마의 시각 컬럼은 epoch 밀리초라 동기화·버전 쿼리가 엔티티 값과 그대로 비교된다")
+    void timestampsAreEpochMillis() {
+        List<String> timestampColumns = jdbcTemplate.queryForList("select table_name || '.' || column_name "
+                + "from information_schema.columns where table_schema = current_schema() "
+                + "and table_name <> 'flyway_schema_history' and data_type like 'timestamp%'", String.class);
+        assertEquals(List.of(), timestampColumns);
+
+        long before = System.currentTimeMillis();
+        Todo todo = todoRepository.saveAndFlush(Todo.builder()
+                .user(user)
+                .title("Schema")
+                .dueDate(LocalDate.now())
+                .build());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select uuid, created_at, updated_at from todos where id = ?", todo.getId());
+        assertEquals(todo.getUuid(), row.get("uuid"));
+        assertEquals(todo.getCreatedAt(), ((Number) row.get("created_at")).longValue());
+        assertEquals(todo.getUpdatedAt(), ((Number) row.get("updated_at")).longValue());
+
+        TodoVersion version = todoRepository.findActiveVersionByUserId(user.getId());
+        assertEquals(1, version.getCount());
+        assertEquals(todo.getUpdatedAt(), version.getLastModified());
+
+        List<TodoChange> changes = todoRepository.findChangesAfter(
+                user.getId(), before - 1, 0L, Long.MAX_VALUE, PageRequest.of(0, 10));
+        assertEquals(1, changes.size());
+        assertEquals(todo.getId(), changes.get(0).getId());
+        assertEquals(todo.getUpdatedAt(), changes.get(0).getUpdatedAt());
+    }
+
+    private String capture(Runnable query) {
+        SelectCountingStatementInspector.reset();
+        query.run();
+        List<String> selects = SelectCountingStatementInspector.getSelects();
+        assertEquals(1, selects.size(), "expected a single SELECT but got " + selects);
+        return selects.get(0);
+    }
+
+    private String explain(String sql) {
+        // GENERIC_PLAN은 $n 자리표시자만 받는다
+        Matcher matcher = PLACEHOLDER.matcher(sql);
+        StringBuilder positional = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(positional, "\\$" + (++index));
+        }
+        matcher.appendTail(positional);
+
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + positional, String.class);
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.calendar.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SelectCountingStatementInspector implements StatementInspector {
+
+    private static final List<String> SELECTS = new CopyOnWriteArrayList<>();
+
+    public static void reset() {
+        SELECTS.clear();
+    }
+
+    public static int getSelectCount() {
+        return SELECTS.size();
+    }
+
+    public static List<String> getSelects() {
+        return new ArrayList<>(SELECTS);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (sql.trim().toLowerCase().startsWith("select")) {
+            SELECTS.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.calendar.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ICalendarReaderTest {
+
+    @Test
+    @DisplayName("접힌 줄을 이어 붙이고 하위 컴포넌트 속성은 무시한다")
+    void next_UnfoldsLinesAndSkipsNestedComponents() throws IOException {
+        String ics = "BEGIN:VCALENDAR\r\n"
+                + "BEGIN:VTODO\r\n"
+                + "UID:todo-1\r\n"
+                + "SUMMARY:Long\r\n"
+                + "  title\r\n"
+                + "DUE;VALUE=DATE:20240105\r\n"
+                + "BEGIN:VALARM\r\n"
+                + "DESCRIPTION:Alarm text\r\n"
+                + "END:VALARM\r\n"
+                + "END:VTODO\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART;TZID=\"Asia/Seoul; KST\":20240106T090000\r\n"
+                + "SUMMARY:Meeting\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n";
+
+        try (ICalendarReader reader = new ICalendarReader(new StringReader(ics), 1024)) {
+            ICalendarComponent todo = reader.next();
+            assertEquals("VTODO", todo.getName());
+            assertEquals(1, todo.getIndex());
+            assertEquals("Long title", todo.value("SUMMARY"));
+            assertEquals("DATE", todo.property("DUE").getParameters().get("VALUE"));
+            assertNull(todo.value("DESCRIPTION"));
+
+            ICalendarComponent event = reader.next();
+            assertEquals("VEVENT", event.getName());
+            assertEquals("20240106T090000", event.value("DTSTART"));
+            assertEquals("Asia/Seoul; KST", event.property("DTSTART").getParameters().get("TZID"));
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 줄은 끝까지 읽지 않고 거부한다")
+    void next_RejectsOverlongLines() {
+        String ics = "BEGIN:VTODO\nSUMMARY:" + "x".repeat(100) + "\nEND:VTODO\n";
+
+        ICalendarReader reader = new ICalendarReader(new StringReader(ics), 32);
+
+        assertThrows(ICalendarParseException.class, reader::next);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.calendar.util;
+
+import com.example.calendar.dto.TodoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ICalendarWriterTest {
+
+    @Test
+    @DisplayName("긴 줄은 75옥텟 이하로 접고 가져오기 파서로 다시 읽을 수 있다")
+    void write_FoldsAndEscapesRoundTrip() throws IOException {
+        String title = "회의 준비; 자료, 정리 " + "가".repeat(60);
+        TodoResponse todo = TodoResponse.builder()
+                .id(1L)
+                .uuid(UUID.randomUUID())
+                .title(title)
+                .description("첫 줄\n둘째 줄")
+                .dueDate(LocalDate.of(2024, 3, 15))
+                .completed(true)
+                .build();
+
+        StringWriter out = new StringWriter();
+        ICalendarWriter writer = new ICalendarWriter(out, "test");
+        writer.begin("할 일");
+        writer.write(todo);
+        writer.end();
+
+        for (String line : out.toString().split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+        try (ICalendarReader reader = new ICalendarReader(new StringReader(out.toString()), 4096)) {
+            ICalendarComponent component = reader.next();
+            assertEquals("회의 준비\\; 자료\\, 정리 " + "가".repeat(60), component.value("SUMMARY"));
+            assertEquals("첫 줄\\n둘째 줄", component.value("DESCRIPTION"));
+            assertEquals("20240315", component.value("DUE"));
+            assertEquals("COMPLETED", component.value("STATUS"));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.calendar.util;
+
+import com.example.calendar.config.JwtConfig;
+import com.example.calendar.domain.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "secret", "test-secret-key-that-is-at-least-256-bits-long");
+        ReflectionTestUtils.setField(jwtConfig, "expiration", 3600L);
+        jwtUtil = new JwtUtil(jwtConfig);
+    }
+
+    @Test
+    @DisplayName("UserPrincipal 토큰에는 사용자 ID와 권한이 포함된다")
+    void generateToken_EmbedsUserIdAndRoles() {
+        UserPrincipal principal = new UserPrincipal(42L, "test@example.com", "password", List.of("ROLE_USER"));
+
+        TokenClaims claims = jwtUtil.parseToken(jwtUtil.generateToken(principal));
+
+        assertEquals("test@example.com", claims.getSubject());
+        assertEquals(42L, claims.getUserId());
+        assertEquals(List.of("ROLE_USER"), claims.getRoles());
+        assertTrue(jwtUtil.validateToken(claims, principal));
+    }
+
+    @Test
+    @DisplayName("일반 UserDetails 토큰에는 사용자 ID가 없다")
+    void generateToken_WithoutPrincipalHasNoUserId() {
+        User userDetails = new User("test@example.com", "password",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+
+        TokenClaims claims = jwtUtil.parseToken(jwtUtil.generateToken(userDetails));
+
+        assertNull(claims.getUserId());
+        assertTrue(claims.getRoles().isEmpty());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.calendar.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    @Test
+    @DisplayName("매일 반복은 시작일부터 세지 않고 구간의 첫 발생일로 바로 건너뛴다")
+    void expand_DailyIntervalSkipsToWindow() {
+        assertEquals(List.of(date(2024, 3, 1), date(2024, 3, 4), date(2024, 3, 7), date(2024, 3, 10)),
+                expand("FREQ=DAILY;INTERVAL=3", date(2024, 1, 1), date(2024, 3, 1), date(2024, 3, 10)));
+    }
+
+    @Test
+    @DisplayName("격주 반복은 지정한 요일만 시작일 이후로 전개한다")
+    void expand_WeeklyByDay() {
+        assertEquals(List.of(date(2024, 1, 3), date(2024, 1, 15), date(2024, 1, 17),
+                        date(2024, 1, 29), date(2024, 1, 31)),
+                expand("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE", date(2024, 1, 3),
+                        date(2024, 1, 1), date(2024, 1, 31)));
+    }
+
+    @Test
+    @DisplayName("매월 마지막 금요일과 31일 반복은 달마다 날짜를 계산한다")
+    void expand_MonthlyOrdinalAndMonthDay() {
+        assertEquals(List.of(date(2024, 1, 26), date(2024, 2, 23), date(2024, 3, 29)),
+                expand("FREQ=MONTHLY;BYDAY=-1FR", date(2024, 1, 1), date(2024, 1, 1), date(2024, 3, 31)));
+        assertEquals(List.of(date(2024, 1, 31), date(2024, 3, 31), date(2024, 5, 31)),
+                expand("FREQ=MONTHLY;BYMONTHDAY=31", date(2024, 1, 31), date(2024, 1, 1), date(2024, 5, 31)));
+    }
+
+    @Test
+    @DisplayName("매월 반복에서 BYDAY와 BYMONTHDAY를 함께 쓰면 두 조건을 모두 만족하는 날만 나온다")
+    void expand_MonthlyByDayLimitsByMonthDay() {
+        assertEquals(List.of(date(2024, 9, 13), date(2024, 12, 13), date(2025, 6, 13)),
+                expand("FREQ=MONTHLY;BYDAY=FR;BYMONTHDAY=13", date(2024, 1, 1), date(2024, 1, 1), date(2025, 6, 30)));
+        assertEquals(List.of(date(2024, 3, 31), date(2024, 6, 30)),
+                expand("FREQ=MONTHLY;BYDAY=-1SU;BYMONTHDAY=-1", date(2024, 1, 1), date(2024, 1, 1), date(2024, 6, 30)));
+    }
+
+    @Test
+    @DisplayName("2월 29일 매년 반복은 윤년에만 나타난다")
+    void expand_YearlyLeapDay() {
+        assertEquals(List.of(date(2024, 2, 29), date(2028, 2, 29), date(2032, 2, 29)),
+                expand("FREQ=YEARLY", date(2024, 2, 29), date(2024, 1, 1), date(2032, 12, 31)));
+    }
+
+    @Test
+    @DisplayName("COUNT는 마지막 발생일로 바뀌고 전개는 그 날짜에서 멈춘다")
+    void lastOccurrence_CountBecomesEndDate() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=TU,TH;COUNT=5");
+        LocalDate start = date(2024, 1, 2);
+        LocalDate end = rule.lastOccurrence(start);
+
+        assertEquals(date(2024, 1, 16), end);
+        List<LocalDate> dates = new ArrayList<>();
+        rule.expand(start, end, date(2024, 1, 10), date(2024, 12, 31), day -> dates.add(LocalDate.ofEpochDay(day)));
+        assertEquals(List.of(date(2024, 1, 11), date(2024, 1, 16)), dates);
+        assertNull(RecurrenceRule.parse("FREQ=DAILY").lastOccurrence(start));
+    }
+
+    @Test
+    @DisplayName("지원하지 않거나 잘못된 규칙은 거부한다")
+    void parse_RejectsInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("INTERVAL=2"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=HOURLY"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=1MO"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20240101"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYSETPOS=1"));
+    }
+
+    private static List<LocalDate> expand(String rrule, LocalDate start, LocalDate from, LocalDate to) {
+        RecurrenceRule rule = RecurrenceRule.parse(rrule);
+        List<LocalDate> dates = new ArrayList<>();
+        rule.expand(start, rule.lastOccurrence(start), from, to, day -> dates.add(LocalDate.ofEpochDay(day)));
+        return dates;
+    }
+
+    private static LocalDate date(int year, int month, int day) {
+        return LocalDate.of(year, month, day);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.calendar.util;
+
+import com.example.calendar.config.JwtConfig;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "secret", "test-secret-key-that-is-at-least-256-bits-long");
+        ReflectionTestUtils.setField(jwtConfig, "expiration", 3600L);
+        ReflectionTestUtils.setField(jwtConfig, "cacheMaxSize", 100L);
+
+        jwtUtil = spy(new JwtUtil(jwtConfig));
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, jwtConfig);
+        userDetails = new User("test@example.com", "password",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 파싱한다")
+    void resolve_ParsesTokenOnce() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        TokenClaims first = verifiedTokenCache.resolve(token);
+        TokenClaims second = verifiedTokenCache.resolve(token);
+
+        assertSame(first, second);
+        assertEquals("test@example.com", second.getSubject());
+        assertTrue(jwtUtil.validateToken(second, userDetails));
+        verify(jwtUtil, times(1)).parseToken(token);
+    }
+
+    @Test
+    @DisplayName("서명이 잘못된 토큰은 캐시하지 않는다")
+    void resolve_DoesNotCacheInvalidToken() {
+        String token = jwtUtil.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(SignatureException.class, () -> verifiedTokenCache.resolve(tampered));
+        assertEquals(0, verifiedTokenCache.size());
+    }
+}